@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.3"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.maniasin"
@@ -58,3 +59,13 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// 크롤러 HTML 파싱/조 순위 계산 벤치마크 (src/jmh, 저장된 페이지로 오프라인 실행: ./gradlew jmh)
+jmh {
+	jmhVersion = "1.37"
+	warmupIterations = 3
+	iterations = 5
+	fork = 1
+	profilers = listOf("gc") // 호출당 할당량(gc.alloc.rate.norm) 측정
+	resultFormat = "JSON"
+}
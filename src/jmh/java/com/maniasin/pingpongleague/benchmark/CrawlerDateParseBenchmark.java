@@ -0,0 +1,57 @@
+package com.maniasin.pingpongleague.benchmark;
+
+import com.maniasin.pingpongleague.service.crawler.parser.AirpingPageParser;
+import com.maniasin.pingpongleague.service.crawler.parser.IpingPageParser;
+import com.maniasin.pingpongleague.service.crawler.parser.KoreaTakguPageParser;
+import com.maniasin.pingpongleague.service.crawler.parser.MyttPageParser;
+import com.maniasin.pingpongleague.service.crawler.parser.PingpongkingPageParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사이트별 날짜 텍스트 변환 벤치마크 (형식 정규화 + LocalDate 변환)
+ * - 값을 final이 아닌 필드에 두어 상수 접기(constant folding)를 막음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CrawlerDateParseBenchmark {
+
+    private String airping = "2025.09.27 ~ 2025.09.28";
+    private String iping = "2025년 09월 27일 (토)";
+    private String koreaTakgu = "2025.09.27";
+    private String mytt = "2025-09-27";
+    private String pingpongking = "25.09.27";
+
+    @Benchmark
+    public LocalDate parseAirpingDate() {
+        return AirpingPageParser.parseDate(AirpingPageParser.normalizeDateText(airping));
+    }
+
+    @Benchmark
+    public LocalDate parseIpingDate() {
+        return IpingPageParser.parseDate(IpingPageParser.extractDate(iping));
+    }
+
+    @Benchmark
+    public LocalDate parseKoreaTakguDate() {
+        return KoreaTakguPageParser.parseDate(koreaTakgu);
+    }
+
+    @Benchmark
+    public LocalDate parseMyttDate() {
+        return MyttPageParser.parseDate(mytt);
+    }
+
+    @Benchmark
+    public LocalDate parsePingpongkingDate() {
+        return PingpongkingPageParser.parseDate(pingpongking);
+    }
+}
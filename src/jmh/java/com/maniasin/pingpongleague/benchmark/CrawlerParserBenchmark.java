@@ -0,0 +1,69 @@
+package com.maniasin.pingpongleague.benchmark;
+
+import com.maniasin.pingpongleague.service.crawler.parser.AirpingPageParser;
+import com.maniasin.pingpongleague.service.crawler.parser.IpingPageParser;
+import com.maniasin.pingpongleague.service.crawler.parser.KoreaTakguPageParser;
+import com.maniasin.pingpongleague.service.crawler.parser.MyttPageParser;
+import com.maniasin.pingpongleague.service.crawler.parser.ParsedPage;
+import com.maniasin.pingpongleague.service.crawler.parser.PingpongkingPageParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크롤러 HTML 파싱 벤치마크
+ * - 브라우저/네트워크 없이 저장된 결과 페이지(src/main/resources/replay/*.html)만 파싱하여 사이트별 처리량 측정
+ * - 실행: ./gradlew jmh (gc 프로파일러로 작업당 할당량도 함께 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CrawlerParserBenchmark {
+
+    @Param({"airping", "iping", "koreatakgu", "mytt", "pingpongking"})
+    private String site;
+
+    private String html;
+
+    @Setup
+    public void setup() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/replay/" + site + ".html")) {
+            if (in == null) {
+                throw new IllegalStateException("fixture 파일이 없습니다: " + site);
+            }
+            html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        // fixture가 파서 선택자와 어긋나면 빈 결과를 측정하게 되므로 미리 확인
+        ParsedPage page = parse();
+        if (page.getRecords().isEmpty() || page.hasFailures()) {
+            throw new IllegalStateException("fixture 파싱 결과가 올바르지 않습니다: " + site
+                    + " (기록 " + page.getRecords().size() + "건, 실패 " + page.getFailedRows() + "행)");
+        }
+    }
+
+    @Benchmark
+    public ParsedPage parsePage() {
+        return parse();
+    }
+
+    private ParsedPage parse() {
+        return switch (site) {
+            case "airping" -> AirpingPageParser.parse(html);
+            case "iping" -> IpingPageParser.parse(html);
+            case "koreatakgu" -> KoreaTakguPageParser.parse(html);
+            case "mytt" -> MyttPageParser.parse(html);
+            case "pingpongking" -> PingpongkingPageParser.parse(html);
+            default -> throw new IllegalStateException("알 수 없는 사이트: " + site);
+        };
+    }
+}
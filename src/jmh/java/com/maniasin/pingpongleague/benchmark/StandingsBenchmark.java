@@ -0,0 +1,110 @@
+package com.maniasin.pingpongleague.benchmark;
+
+import com.maniasin.pingpongleague.domain.LeagueRoom;
+import com.maniasin.pingpongleague.domain.Match;
+import com.maniasin.pingpongleague.domain.User;
+import com.maniasin.pingpongleague.dto.GroupStandingDto;
+import com.maniasin.pingpongleague.service.RankingRule;
+import com.maniasin.pingpongleague.service.RankingService;
+import com.maniasin.pingpongleague.service.StandingsTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조 순위 계산 벤치마크 (조 전체 경기 -> 순위표)
+ * - baselineStandings: 전적 표 도입 전 구현 (BaselineRankingService - 엔티티 Stream, Long 키 맵, 선수별 DTO)
+ * - tableStandings: 현재 구현 (경기 -> 기본형 배열 전적 표 -> 순위, 마지막에만 DTO 생성)
+ * - tableOrder: 전적 표로 순위 순서만 계산 (DTO 생성 제외)
+ * - 모든 경기가 끝난 풀리그, 승패는 고정 시드 난수 (동점자 처리가 함께 측정되도록)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StandingsBenchmark {
+
+    @Param({"4", "8", "16", "32", "64"})
+    private int groupSize;
+
+    private final BaselineRankingService baselineRankingService = new BaselineRankingService();
+    private final RankingService rankingService = new RankingService();
+    private final RankingRule rule = RankingRule.of(LeagueRoom.RoundRobinRankingType.POINTS, LeagueRoom.DEFAULT_TIE_BREAKERS);
+    private List<Match> matches;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        Random random = new Random(groupSize);
+        List<User> players = new ArrayList<>();
+        for (int i = 0; i < groupSize; i++) {
+            players.add(player(i + 1L));
+        }
+
+        matches = new ArrayList<>();
+        long matchId = 1;
+        for (int i = 0; i < groupSize; i++) {
+            for (int j = i + 1; j < groupSize; j++) {
+                Match match = Match.builder()
+                        .player1(players.get(i))
+                        .player2(players.get(j))
+                        .status(Match.MatchStatus.COMPLETED)
+                        .build();
+                boolean player1Won = random.nextBoolean();
+                int loserScore = random.nextInt(3);
+                match.setId(matchId++);
+                match.setPlayer1Score(player1Won ? 3 : loserScore);
+                match.setPlayer2Score(player1Won ? loserScore : 3);
+                match.setWinner(player1Won ? match.getPlayer1() : match.getPlayer2());
+                matches.add(match);
+            }
+        }
+
+        // 두 방식의 결과가 다르면 서로 다른 일을 측정하게 되므로 미리 확인
+        // (기준선은 HashMap 순서를 기본 순서로 쓰므로, 끝까지 갈리지 않은 동점자의 순서는 비교하지 않고 순위별 전적만 비교)
+        List<GroupStandingDto> expected = baselineStandings();
+        List<GroupStandingDto> actual = tableStandings();
+        if (expected.size() != actual.size()) {
+            throw new IllegalStateException("두 계산 방식의 선수 수가 다릅니다 (조 인원 " + groupSize + ")");
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            if (expected.get(i).getPoints() != actual.get(i).getPoints()
+                    || expected.get(i).getTieBreakerGameRatio() != actual.get(i).getTieBreakerGameRatio()) {
+                throw new IllegalStateException("두 계산 방식의 순위가 다릅니다: " + (i + 1) + "위 (조 인원 " + groupSize + ")");
+            }
+        }
+    }
+
+    @Benchmark
+    public List<GroupStandingDto> baselineStandings() {
+        return baselineRankingService.calculateGroupStandings(matches, LeagueRoom.RoundRobinRankingType.POINTS);
+    }
+
+    @Benchmark
+    public List<GroupStandingDto> tableStandings() {
+        return rankingService.calculateGroupStandings(matches, rule);
+    }
+
+    @Benchmark
+    public int[] tableOrder() {
+        return rule.rank(StandingsTable.of(rankingService.toResults(matches)));
+    }
+
+    // User는 ID를 DB가 부여하므로 벤치마크 데이터는 직접 지정
+    private static User player(long id) throws ReflectiveOperationException {
+        User user = User.builder().nickname("player" + id).build();
+        Field field = User.class.getDeclaredField("id");
+        field.setAccessible(true);
+        field.set(user, id);
+        return user;
+    }
+}
@@ -1,19 +1,29 @@
 package com.maniasin.pingpongleague.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 캐시 설정 클래스
- * - Caffeine을 사용한 인메모리 캐싱
+ * - Caffeine(L1, 노드 로컬) + Redis(L2, 노드 간 공유) 2단계 캐싱
+ * - Redis에 연결할 수 없으면 Caffeine만 사용
  * - 크롤링 결과를 30분간 캐싱하여 중복 크롤링 방지
  */
+@Slf4j
 @Configuration
 @EnableCaching
 public class CacheConfig {
@@ -21,18 +31,47 @@ public class CacheConfig {
     public static final String PLAYER_RECORDS_CACHE = "playerRecords";
     public static final String CRAWLING_JOBS_CACHE = "crawlingJobs";
 
+    private static final Duration CACHE_TTL = Duration.ofMinutes(30);
+
+    // false이면 Redis가 있어도 로컬 캐시만 사용
+    @Value("${cache.redis.enabled:true}")
+    private boolean redisEnabled;
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                PLAYER_RECORDS_CACHE,
-                CRAWLING_JOBS_CACHE
-        );
-        
-        cacheManager.setCaffeine(Caffeine.newBuilder()
+    public CacheManager cacheManager(ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
                 .maximumSize(1000)
-                .expireAfterWrite(30, TimeUnit.MINUTES)
-                .recordStats());
-        
+                .expireAfterWrite(CACHE_TTL.toMinutes(), TimeUnit.MINUTES)
+                .recordStats();
+        List<String> cacheNames = List.of(PLAYER_RECORDS_CACHE, CRAWLING_JOBS_CACHE);
+
+        RedisConnectionFactory connectionFactory = redisEnabled ? redisConnectionFactory.getIfAvailable() : null;
+        if (connectionFactory == null || !isReachable(connectionFactory)) {
+            log.warn("Redis를 사용할 수 없어 로컬 캐시(Caffeine)만 사용합니다.");
+            return new LayeredCacheManager(caffeine, null, null, cacheNames);
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(CACHE_TTL)
+                        .prefixCacheNameWith("pingpong:"))
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        RedisCacheInvalidationBus invalidationBus = new RedisCacheInvalidationBus(connectionFactory);
+        LayeredCacheManager cacheManager = new LayeredCacheManager(caffeine, redisCacheManager, invalidationBus, cacheNames);
+        invalidationBus.start();
+        log.info("2단계 캐시 사용: Caffeine(L1) + Redis(L2)");
         return cacheManager;
     }
+
+    private boolean isReachable(RedisConnectionFactory connectionFactory) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.ping();
+            return true;
+        } catch (RuntimeException e) {
+            log.debug("Redis 연결 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
 }
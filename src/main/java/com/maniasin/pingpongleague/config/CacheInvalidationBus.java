@@ -0,0 +1,26 @@
+package com.maniasin.pingpongleague.config;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 노드 간 로컬 캐시(L1) 무효화 전달 통로
+ * - 한 노드에서 값이 바뀌면 다른 노드의 L1에 남은 예전 값을 지우도록 알림
+ * - 운영에서는 Redis Pub/Sub, 테스트에서는 프로세스 내 구현으로 대체 가능
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * 다른 노드에 무효화 전달
+     * @param key 무효화할 키. null이면 캐시 전체
+     */
+    void publish(String cacheName, Object key);
+
+    /**
+     * 다른 노드에서 보낸 무효화 수신 (자기 노드가 보낸 메시지는 전달되지 않음)
+     * - 키는 문자열로 전달되므로 캐시 키는 문자열이어야 함
+     */
+    void subscribe(BiConsumer<String, String> listener);
+
+    default void close() {
+    }
+}
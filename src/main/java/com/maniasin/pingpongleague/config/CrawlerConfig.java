@@ -1,42 +1,170 @@
 package com.maniasin.pingpongleague.config;
 
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.Semaphore;
 
 /**
  * 크롤링 관련 설정 클래스
- * - 동시 실행 제한 (Semaphore)
- * - ThreadPool 설정
+ * - 사이트별 동시 실행 제한 (Bulkhead)
+ * - ThreadPool 설정 (crawler.executor.mode=virtual 이면 가상 스레드)
+ * - WebDriver 풀 설정
+ * - 로그인 세션 재사용 설정
+ * - 사이트별 Circuit Breaker 설정
+ * - 증분 크롤링 설정
+ * - 인기 선수 미리 크롤링 설정
+ * - 여러 노드 간 크롤링 중복 제거 설정
+ * - 크롤링 작업 입장 제어(우선순위 대기열) 설정
  */
+@Slf4j
 @Configuration
 @EnableAsync
+@EnableScheduling
 @Getter
 public class CrawlerConfig {
 
     @Value("${crawler.max-concurrent-jobs:3}")
     private int maxConcurrentJobs;
 
+    // 크롤링 실행 방식: platform(고정 크기 스레드 풀) 또는 virtual(가상 스레드, JDK 21 이상)
+    @Value("${crawler.executor.mode:platform}")
+    private String executorMode;
+
     @Value("${crawler.cache-duration-minutes:30}")
     private int cacheDurationMinutes;
 
     @Value("${crawler.rate-limit-per-minute:5}")
     private int rateLimitPerMinute;
 
-    /**
-     * 동시 실행 가능한 크롤링 작업 수를 제한하는 Semaphore
-     * 최대 3개의 크롤링 작업만 동시에 실행
-     */
-    @Bean
-    public Semaphore crawlerSemaphore() {
-        return new Semaphore(maxConcurrentJobs);
-    }
+    // WebDriver 풀 크기 (동시에 띄울 수 있는 최대 Chrome 인스턴스 수)
+    @Value("${crawler.webdriver.pool-size:5}")
+    private int webDriverPoolSize;
+
+    // 하나의 WebDriver를 재사용할 최대 횟수 (초과 시 새 인스턴스로 교체)
+    @Value("${crawler.webdriver.max-uses:50}")
+    private int webDriverMaxUses;
+
+    // WebDriver 최대 수명 (분)
+    @Value("${crawler.webdriver.max-age-minutes:30}")
+    private int webDriverMaxAgeMinutes;
+
+    // 유휴 상태로 이 시간(분)이 지나면 WebDriver 종료
+    @Value("${crawler.webdriver.idle-timeout-minutes:10}")
+    private int webDriverIdleTimeoutMinutes;
+
+    // 풀에서 WebDriver를 빌릴 때 최대 대기 시간 (초)
+    @Value("${crawler.webdriver.borrow-timeout-seconds:60}")
+    private int webDriverBorrowTimeoutSeconds;
+
+    // 로그인 세션 쿠키 재사용 시간 (분). 이 시간이 지나면 다시 로그인
+    @Value("${crawler.session.ttl-minutes:60}")
+    private int sessionTtlMinutes;
+
+    // 브라우저 없이 HTTP로 페이지를 가져올 때의 연결/응답 제한 시간 (초)
+    @Value("${crawler.http.timeout-seconds:10}")
+    private int httpTimeoutSeconds;
+
+    // 진행 상황 SSE 연결 유지 시간 (초)
+    @Value("${crawler.sse.timeout-seconds:300}")
+    private int sseTimeoutSeconds;
+
+    // 끝난 크롤링 작업의 상태를 보관하는 시간 (분)
+    @Value("${crawler.jobs.finished-ttl-minutes:30}")
+    private int finishedJobTtlMinutes;
+
+    // 보관할 끝난 작업의 최대 개수
+    @Value("${crawler.jobs.max-finished:1000}")
+    private int maxFinishedJobs;
+
+    // 동시에 등록될 수 있는 진행 중(대기 포함) 작업의 최대 개수
+    @Value("${crawler.jobs.max-active:100}")
+    private int maxActiveJobs;
+
+    // 연속 실패 횟수가 이 값에 도달하면 해당 사이트 차단 (Circuit Open)
+    @Value("${crawler.circuit.failure-threshold:3}")
+    private int circuitFailureThreshold;
+
+    // 차단 후 시험 요청(Half-Open)을 보내기까지 대기 시간 (초)
+    @Value("${crawler.circuit.open-seconds:60}")
+    private int circuitOpenSeconds;
+
+    // 사이트별 제한 시간 = 최근 성공 응답시간 p95 x 배수 (최소/최대 범위 내)
+    @Value("${crawler.circuit.timeout-multiplier:2.0}")
+    private double circuitTimeoutMultiplier;
+
+    @Value("${crawler.circuit.min-timeout-seconds:20}")
+    private int circuitMinTimeoutSeconds;
+
+    @Value("${crawler.circuit.max-timeout-seconds:120}")
+    private int circuitMaxTimeoutSeconds;
+
+    // 사이트별 동시 크롤링 수 기본값. 사이트마다 crawler.bulkhead.permits.{siteKey}로 변경 가능
+    @Value("${crawler.bulkhead.default-permits:2}")
+    private int bulkheadDefaultPermits;
+
+    // 사이트별 허용 수가 모두 사용 중일 때 기다릴 수 있는 최대 요청 수
+    @Value("${crawler.bulkhead.queue-capacity:20}")
+    private int bulkheadQueueCapacity;
+
+    // 사이트별 허용을 기다리는 최대 시간 (초). 넘기면 이번 조회에서 해당 사이트 제외
+    @Value("${crawler.bulkhead.max-wait-seconds:60}")
+    private int bulkheadMaxWaitSeconds;
+
+    // 증분 크롤링: 이미 수집된 기록에 도달하면 페이지 넘김을 멈춤
+    @Value("${crawler.incremental.enabled:true}")
+    private boolean incrementalCrawlEnabled;
+
+    // 증분 크롤링을 하더라도 이 기간(일)마다 한 번은 전체 크롤링 (늦게 올라온 과거 기록 반영)
+    @Value("${crawler.incremental.full-refresh-days:7}")
+    private int incrementalFullRefreshDays;
+
+    // 자주 조회되는 선수를 캐시 만료 전에 미리 크롤링
+    @Value("${crawler.prewarm.enabled:true}")
+    private boolean prewarmEnabled;
+
+    // 미리 크롤링을 허용하는 시간대 (시작-끝 시각, 끝 시각 미포함, 콤마로 여러 구간)
+    @Value("${crawler.prewarm.off-peak-hours:0-8}")
+    private String prewarmOffPeakHours;
+
+    // 미리 크롤링에 쓸 수 있는 시간당 브라우저 사용 시간 (분)
+    @Value("${crawler.prewarm.browser-minutes-per-hour:10}")
+    private int prewarmBrowserMinutesPerHour;
+
+    // 이 횟수 이상 조회된 선수만 대상 (조회 횟수는 매일 절반으로 감쇠)
+    @Value("${crawler.prewarm.min-searches:3}")
+    private int prewarmMinSearches;
+
+    // 최근 이 기간(일) 안에 조회된 선수만 대상
+    @Value("${crawler.prewarm.lookback-days:7}")
+    private int prewarmLookbackDays;
+
+    // 캐시 만료까지 이 시간(분) 이내로 남으면 미리 크롤링
+    @Value("${crawler.prewarm.lead-minutes:10}")
+    private int prewarmLeadMinutes;
+
+    // Redis가 있으면 여러 노드 간 같은 선수 크롤링 중복 제거 및 작업 상태 공유
+    @Value("${crawler.cluster.enabled:true}")
+    private boolean clusterEnabled;
+
+    // 크롤링 임대 만료 시간 (초). 노드가 죽으면 이 시간 후 다른 노드가 다시 크롤링 가능
+    @Value("${crawler.cluster.lease-seconds:60}")
+    private int clusterLeaseSeconds;
+
+    // 예상 대기 시간이 이 값(초)을 넘으면 크롤링 작업을 대기열에 넣지 않고 바로 거절
+    @Value("${crawler.admission.max-wait-seconds:60}")
+    private int admissionMaxWaitSeconds;
+
+    // 사이트 응답시간 기록이 없을 때 사용할 예상 작업 시간 (초)
+    @Value("${crawler.admission.default-job-seconds:20}")
+    private int admissionDefaultJobSeconds;
 
     /**
      * 크롤링 작업용 Job Executor
@@ -44,6 +172,13 @@ public class CrawlerConfig {
      */
     @Bean(name = "crawlerJobExecutor")
     public Executor crawlerJobExecutor() {
+        if (isVirtualThreadsEnabled()) {
+            return virtualThreadExecutor("crawler-job-");
+        }
+        if ("virtual".equalsIgnoreCase(executorMode)) {
+            log.warn("가상 스레드는 JDK 21 이상에서만 사용할 수 있어 스레드 풀로 실행합니다. (현재 JDK {})",
+                    Runtime.version().feature());
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(maxConcurrentJobs);
         executor.setMaxPoolSize(maxConcurrentJobs * 2);
@@ -61,6 +196,9 @@ public class CrawlerConfig {
      */
     @Bean(name = "crawlerTaskExecutor")
     public Executor crawlerTaskExecutor() {
+        if (isVirtualThreadsEnabled()) {
+            return virtualThreadExecutor("crawler-task-");
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
@@ -71,4 +209,25 @@ public class CrawlerConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 가상 스레드 사용 여부
+     * - crawler.executor.mode=virtual 이고 JDK 21 이상에서 실행 중일 때만 사용
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return "virtual".equalsIgnoreCase(executorMode) && Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * 가상 스레드 Executor
+     * - 작업마다 가상 스레드를 새로 만들므로 대기열 크기 제한이 없음
+     * - 동시 실행 수는 SiteBulkhead, WebDriverPool, CrawlJobRegistry의 제한으로 관리
+     */
+    private Executor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(60_000);
+        log.info("{} 가상 스레드 Executor 사용", threadNamePrefix);
+        return executor;
+    }
 }
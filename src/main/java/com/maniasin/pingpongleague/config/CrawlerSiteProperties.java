@@ -0,0 +1,40 @@
+package com.maniasin.pingpongleague.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 크롤링 대상 사이트 주소
+ * - 사이트 키(SiteCrawler.getSiteKey())별 기본 주소. crawler.sites.base-url.{siteKey}로 변경 가능
+ * - replay 프로필에서는 모든 사이트를 로컬 재생 서버(SiteReplayServer)로 향하게 함
+ */
+@Component
+@ConfigurationProperties(prefix = "crawler.sites")
+@Getter
+@Setter
+public class CrawlerSiteProperties {
+
+    private Map<String, String> baseUrl = new HashMap<>(Map.of(
+            "airping", "https://www.airping.co.kr",
+            "iping", "http://www.iping.club",
+            "koreatakgu", "http://www.koreatakgu.com",
+            "mytt", "https://mytt.kr",
+            "pingpongking", "http://www.pingpongking.com"
+    ));
+
+    /**
+     * 사이트 기본 주소 (끝의 '/' 제외)
+     */
+    public String baseUrl(String siteKey) {
+        String url = baseUrl.get(siteKey);
+        if (url == null) {
+            throw new IllegalStateException("사이트 주소가 설정되지 않았습니다: " + siteKey);
+        }
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
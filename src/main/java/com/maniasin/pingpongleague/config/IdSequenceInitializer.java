@@ -0,0 +1,78 @@
+package com.maniasin.pingpongleague.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * IDENTITY -> SEQUENCE 전환 시 기존 데이터와 ID가 겹치지 않도록 시퀀스 시작값을 맞춰주는 초기화 클래스
+ * - 기존 DB 파일에는 이미 IDENTITY로 발급된 ID가 있으므로, 새로 만들어진 시퀀스가 그보다 뒤에서 시작해야 함
+ * - pooled 옵티마이저는 (시퀀스 값 - allocationSize + 1)부터 ID를 쓰므로 "기존 최대 ID + allocationSize"부터 시작
+ * - JPA(EntityManagerFactory)보다 먼저 실행 (웹 서버, 스케줄러, 크롤링 작업이 시퀀스 값을 받기 전에 맞춤)
+ *   시퀀스가 아직 없으면 여기서 만들고, Hibernate(ddl-auto=update)는 이미 있는 시퀀스를 그대로 사용
+ * - 테이블이 없는 새 DB는 맞출 ID가 없으므로 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements InitializingBean {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<String[]> SEQUENCES = List.of(
+            new String[]{"award_records", "record_id", "award_records_seq"},
+            new String[]{"tournaments", "tournament_id", "tournaments_seq"},
+            new String[]{"award_record_changes", "change_id", "award_record_changes_seq"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        for (String[] sequence : SEQUENCES) {
+            try {
+                align(sequence[0], sequence[1], sequence[2]);
+            } catch (Exception e) {
+                log.warn("시퀀스 '{}' 시작값 확인 실패: {}", sequence[2], e.getMessage());
+            }
+        }
+    }
+
+    private void align(String table, String idColumn, String sequenceName) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        if (maxId == null || maxId == 0) {
+            return;
+        }
+
+        long required = maxId + ALLOCATION_SIZE;
+        List<Long> nextValues = jdbcTemplate.queryForList(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = UPPER(?)",
+                Long.class, sequenceName);
+        if (nextValues.isEmpty()) {
+            jdbcTemplate.execute("CREATE SEQUENCE " + sequenceName + " START WITH " + required + " INCREMENT BY " + ALLOCATION_SIZE);
+            log.info("시퀀스 '{}' 생성: {}부터 시작 (기존 최대 ID: {})", sequenceName, required, maxId);
+            return;
+        }
+
+        Long nextValue = nextValues.get(0);
+        if (nextValue != null && nextValue < required) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName + " RESTART WITH " + required);
+            log.info("시퀀스 '{}' 시작값 조정: {} -> {} (기존 최대 ID: {})", sequenceName, nextValue, required, maxId);
+        }
+    }
+
+    /**
+     * EntityManagerFactory가 IdSequenceInitializer 다음에 만들어지도록 의존 관계 추가
+     */
+    @Component
+    static class JpaDependsOnIdSequences extends EntityManagerFactoryDependsOnPostProcessor {
+        JpaDependsOnIdSequences() {
+            super(IdSequenceInitializer.class);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.maniasin.pingpongleague.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 2단계 캐시
+ * - L1: 노드 로컬 Caffeine (가장 빠름, 노드마다 따로 보관)
+ * - L2: Redis (노드 간 공유). L1에 없으면 L2에서 읽어 L1을 채움
+ * - 쓰기/삭제는 L1, L2에 모두 반영하고 다른 노드의 L1은 무효화 메시지로 삭제
+ * - L2 오류는 조회 실패로 간주하고 L1만으로 계속 동작
+ */
+@Slf4j
+public class LayeredCache implements Cache {
+
+    private final String name;
+    private final Cache local;
+    private final Cache remote; // Redis가 없으면 null
+    private final CacheInvalidationBus invalidationBus; // Redis가 없으면 null
+
+    public LayeredCache(String name, Cache local, Cache remote, CacheInvalidationBus invalidationBus) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value != null) {
+            return value;
+        }
+        ValueWrapper remoteValue = remoteGet(key);
+        if (remoteValue != null) {
+            local.put(key, remoteValue.get());
+        }
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("캐시 값의 타입이 다릅니다: " + type.getName() + " / " + stored);
+        }
+        return (T) stored;
+    }
+
+    /**
+     * L1 → L2 → valueLoader 순서로 조회
+     * - 같은 노드에서 같은 키를 동시에 요청하면 L1(Caffeine)의 키 단위 잠금으로 한 번만 로드
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = local.get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+        return local.get(key, () -> {
+            ValueWrapper remoteValue = remoteGet(key);
+            if (remoteValue != null) {
+                return (T) remoteValue.get();
+            }
+            T loaded = valueLoader.call();
+            remotePut(key, loaded);
+            return loaded;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        remotePut(key, value);
+        publish(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        if (remote != null) {
+            try {
+                remote.evict(key);
+            } catch (RuntimeException e) {
+                log.warn("[{}] Redis 캐시 삭제 실패: {}", name, e.getMessage());
+            }
+        }
+        publish(key);
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        if (remote != null) {
+            try {
+                remote.clear();
+            } catch (RuntimeException e) {
+                log.warn("[{}] Redis 캐시 전체 삭제 실패: {}", name, e.getMessage());
+            }
+        }
+        publish(null);
+    }
+
+    /**
+     * 다른 노드에서 받은 무효화 반영 (L1만 삭제)
+     */
+    void evictLocal(Object key) {
+        if (key == null) {
+            local.clear();
+        } else {
+            local.evict(key);
+        }
+    }
+
+    private ValueWrapper remoteGet(Object key) {
+        if (remote == null) {
+            return null;
+        }
+        try {
+            return remote.get(key);
+        } catch (RuntimeException e) {
+            log.warn("[{}] Redis 캐시 조회 실패, 로컬 캐시만 사용: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void remotePut(Object key, Object value) {
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("[{}] Redis 캐시 저장 실패: {}", name, e.getMessage());
+        }
+    }
+
+    private void publish(Object key) {
+        if (invalidationBus != null) {
+            invalidationBus.publish(name, key);
+        }
+    }
+}
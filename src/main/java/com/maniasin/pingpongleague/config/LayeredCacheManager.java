@@ -0,0 +1,69 @@
+package com.maniasin.pingpongleague.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caffeine(L1) + Redis(L2) 캐시 매니저
+ * - remoteCacheManager가 null이면 L1만 사용 (Redis가 없는 개발 환경)
+ * - 다른 노드에서 온 무효화 메시지를 받아 L1에서 해당 키 삭제
+ */
+public class LayeredCacheManager implements CacheManager, DisposableBean {
+
+    private final Caffeine<Object, Object> caffeine;
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final Map<String, LayeredCache> caches = new ConcurrentHashMap<>();
+
+    public LayeredCacheManager(Caffeine<Object, Object> caffeine, CacheManager remoteCacheManager,
+                               CacheInvalidationBus invalidationBus, List<String> cacheNames) {
+        this.caffeine = caffeine;
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationBus = invalidationBus;
+        cacheNames.forEach(this::getCache);
+        if (invalidationBus != null) {
+            invalidationBus.subscribe(this::evictLocal);
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, key -> new LayeredCache(
+                key,
+                new CaffeineCache(key, caffeine.build(), true),
+                remoteCacheManager != null ? remoteCacheManager.getCache(key) : null,
+                invalidationBus));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public boolean isRemoteEnabled() {
+        return remoteCacheManager != null;
+    }
+
+    @Override
+    public void destroy() {
+        if (invalidationBus != null) {
+            invalidationBus.close();
+        }
+    }
+
+    private void evictLocal(String cacheName, String key) {
+        LayeredCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.maniasin.pingpongleague.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Redis Pub/Sub 기반 L1 무효화 전달
+ * - 메시지: "노드ID\n캐시명\n(빈 문자열=전체 | '=' + 키)"
+ * - 자기 노드가 보낸 메시지는 무시
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    static final String CHANNEL = "pingpong:cache:invalidate";
+    private static final String SEPARATOR = "\n";
+    private static final String KEY_MARK = "=";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisCacheInvalidationBus(RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+    }
+
+    @Override
+    public void publish(String cacheName, Object key) {
+        String message = nodeId + SEPARATOR + cacheName + SEPARATOR + (key == null ? "" : KEY_MARK + key);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("[{}] 캐시 무효화 메시지 전송 실패: {}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, String> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+            if (parts.length < 3 || nodeId.equals(parts[0])) {
+                return;
+            }
+            String key = parts[2].startsWith(KEY_MARK) ? parts[2].substring(KEY_MARK.length()) : null;
+            listener.accept(parts[1], key);
+        }, new ChannelTopic(CHANNEL));
+    }
+
+    public void start() {
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("캐시 무효화 채널 구독 시작: {} (노드 {})", CHANNEL, nodeId);
+    }
+
+    @Override
+    public void close() {
+        try {
+            listenerContainer.destroy();
+        } catch (Exception e) {
+            log.warn("캐시 무효화 채널 종료 중 오류: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.maniasin.pingpongleague.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 로컬 재생 서버(SiteReplayServer) 설정 - replay 프로필에서만 사용
+ * - 응답 지연: latency-ms + 0~latency-jitter-ms 사이 임의 값
+ * - 장애 주입: failure-rate 확률로 failure-status 응답
+ * - 사이트별로 다르게 주려면 site-latency-ms.{siteKey}, site-failure-rate.{siteKey}
+ */
+@Component
+@Profile("replay")
+@ConfigurationProperties(prefix = "crawler.replay")
+@Getter
+@Setter
+public class ReplayProperties {
+
+    private int port = 18090;
+    private int latencyMs = 300;
+    private int latencyJitterMs = 200;
+    private double failureRate = 0.0;
+    private int failureStatus = 503;
+    // 목록을 나눠 보여주는 사이트('더보기', 페이지 넘김)의 한 번에 보여줄 행 수
+    private int pageSize = 10;
+
+    private Map<String, Integer> siteLatencyMs = new HashMap<>();
+    private Map<String, Double> siteFailureRate = new HashMap<>();
+
+    public int latencyMs(String siteKey) {
+        return siteLatencyMs.getOrDefault(siteKey, latencyMs);
+    }
+
+    public double failureRate(String siteKey) {
+        return siteFailureRate.getOrDefault(siteKey, failureRate);
+    }
+}
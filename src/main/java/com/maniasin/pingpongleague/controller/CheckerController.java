@@ -1,20 +1,36 @@
 package com.maniasin.pingpongleague.controller;
 
-import com.maniasin.pingpongleague.domain.AwardRecord;
+import com.maniasin.pingpongleague.config.CrawlerConfig;
+import com.maniasin.pingpongleague.domain.Player;
+import com.maniasin.pingpongleague.dto.AwardRecordDto;
 import com.maniasin.pingpongleague.dto.JobProgress;
+import com.maniasin.pingpongleague.dto.RecordLookupDto;
+import com.maniasin.pingpongleague.service.AwardChangeFeedService;
 import com.maniasin.pingpongleague.service.CheckerService;
+import com.maniasin.pingpongleague.service.CrawlAdmissionQueue;
+import com.maniasin.pingpongleague.service.CrawlJobRegistry;
+import com.maniasin.pingpongleague.service.CrawlPrewarmScheduler;
 import com.maniasin.pingpongleague.service.CrawlerService;
 import com.maniasin.pingpongleague.service.RateLimitService;
+import com.maniasin.pingpongleague.service.crawler.CrawlerCircuitBreaker;
+import com.maniasin.pingpongleague.service.crawler.SiteBulkhead;
+import com.maniasin.pingpongleague.service.crawler.WebDriverPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -26,8 +42,16 @@ import java.util.stream.Collectors;
 public class CheckerController {
 
     private final CheckerService checkerService;
+    private final AwardChangeFeedService awardChangeFeedService;
     private final CrawlerService crawlerService;
     private final RateLimitService rateLimitService;
+    private final CrawlJobRegistry crawlJobRegistry;
+    private final CrawlAdmissionQueue admissionQueue;
+    private final WebDriverPool webDriverPool;
+    private final CrawlerCircuitBreaker circuitBreaker;
+    private final SiteBulkhead siteBulkhead;
+    private final CrawlerConfig crawlerConfig;
+    private final CrawlPrewarmScheduler prewarmScheduler;
 
     @GetMapping
     public String checkerHomePage() {
@@ -37,32 +61,51 @@ public class CheckerController {
     @PostMapping("/search")
     @ResponseBody
     public ResponseEntity<?> startSearch(
-            @RequestParam String playerName,
+            @RequestParam("playerName") String rawPlayerName,
             @AuthenticationPrincipal UserDetails userDetails) {
         
         String username = userDetails != null ? userDetails.getUsername() : "anonymous";
+        // 작업 중복 확인, 저장, 결과 페이지 이동 모두 같은 이름을 쓰도록 여기서 한 번만 정규화
+        String playerName = Player.normalizeName(rawPlayerName);
+        if (playerName.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "잘못된 요청",
+                    "message", "선수 이름을 입력해주세요."
+            ));
+        }
         
         // Rate Limiting 체크
-        if (!rateLimitService.allowRequest(username)) {
+        RateLimitService.Decision decision = rateLimitService.tryAcquire(username);
+        if (!decision.isAllowed()) {
             int remaining = rateLimitService.getRemainingRequests(username);
-            log.warn("Rate limit 초과: 사용자 '{}', 선수명 '{}'", username, playerName);
+            long retryAfterSeconds = decision.getRetryAfterSeconds();
+            boolean globalLimit = decision.getLimit() == RateLimitService.Limit.GLOBAL;
+            log.warn("Rate limit 초과({}): 사용자 '{}', 선수명 '{}'", decision.getLimit(), username, playerName);
             return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
                     .body(Map.of(
                             "error", "요청 횟수 제한 초과",
-                            "message", "분당 조회 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.",
-                            "remainingRequests", remaining
+                            "message", globalLimit
+                                    ? "현재 조회 요청이 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요."
+                                    : "분당 조회 횟수를 초과했습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.",
+                            "limit", decision.getLimit().name(),
+                            "remainingRequests", remaining,
+                            "retryAfterSeconds", retryAfterSeconds
                     ));
         }
         
         log.info("크롤링 요청: 사용자 '{}', 선수명 '{}'", username, playerName);
-        String jobId = crawlerService.startCrawlingJob(playerName);
+        RecordLookupDto lookup = checkerService.lookup(playerName);
         int remaining = rateLimitService.getRemainingRequests(username);
-        
-        Map<String, Object> response = Map.of(
-                "jobId", jobId,
-                "playerName", playerName,
-                "remainingRequests", remaining
-        );
+
+        // 수집된 기록이 있으면 바로 결과 페이지로 이동하고, 갱신은 결과 페이지에서 확인
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("playerName", playerName);
+        response.put("cached", lookup.isCached());
+        response.put("jobId", lookup.getJobId());
+        response.put("refreshJobId", lookup.getRefreshJobId());
+        response.put("lastCrawledAt", lookup.getLastCrawledAt());
+        response.put("remainingRequests", remaining);
         return ResponseEntity.ok(response);
     }
 
@@ -73,27 +116,67 @@ public class CheckerController {
         return ResponseEntity.ok(progress);
     }
 
+    /**
+     * 작업 진행 상황 SSE 스트림 (폴링 대신 사용)
+     * - 사이트별 진행/완료 이벤트를 "progress" 이벤트로 전달
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter streamStatus(@RequestParam String jobId) {
+        return crawlerService.subscribe(jobId);
+    }
+
+    /**
+     * 크롤링 작업/브라우저 풀 상태 (모니터링용)
+     */
+    @GetMapping("/stats")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("executorMode", crawlerConfig.isVirtualThreadsEnabled() ? "virtual" : "platform");
+        stats.put("jobs", crawlJobRegistry.getStats());
+        stats.put("admission", admissionQueue.getStats());
+        stats.put("webDriverPool", webDriverPool.getStats());
+        stats.put("circuitBreakers", circuitBreaker.getStats());
+        stats.put("bulkheads", siteBulkhead.getStats());
+        stats.put("prewarm", prewarmScheduler.getStats());
+        return ResponseEntity.ok(stats);
+    }
+
     @GetMapping("/results")
-    public String showResults(@RequestParam String playerName, Model model) {
-        List<AwardRecord> records = checkerService.getExistingRecords(playerName);
+    public String showResults(@RequestParam("playerName") String rawPlayerName,
+                              @RequestParam(required = false) String refreshJobId,
+                              Model model) {
+        String playerName = Player.normalizeName(rawPlayerName);
+        List<AwardRecordDto> records = checkerService.getExistingRecords(playerName);
 
         // 집계 로직
         Map<String, Long> placingSummary = records.stream()
-                .map(record -> record.getPlacing().trim())
-                .collect(Collectors.groupingBy(
-                        placing -> {
-                            if (placing.contains("준우승") || placing.contains("2위")) return "준우승";
-                            if (placing.contains("우승") || placing.contains("1위")) return "우승"; // "우승"은 두 번째로 체크
-                            if (placing.contains("3위") || placing.contains("4강")) return "3위";
-                            return "기타";
-                        },
-                        Collectors.counting()
-                ));
+                .collect(Collectors.groupingBy(AwardRecordDto::getPlacingGroup, Collectors.counting()));
 
         model.addAttribute("playerName", playerName);
         model.addAttribute("records", records);
         model.addAttribute("placingSummary", placingSummary);
 
+        LocalDateTime lastCrawledAt = checkerService.getLastCrawledAt(playerName).orElse(null);
+        model.addAttribute("lastCrawledAt", lastCrawledAt);
+        model.addAttribute("ageText", RecordLookupDto.formatAge(lastCrawledAt));
+        model.addAttribute("refreshJobId", refreshJobId);
+        // 백그라운드 갱신이 끝나면 이 시각 이후의 변경만 받아 화면에 반영
+        model.addAttribute("changesSince", lastCrawledAt != null ? lastCrawledAt.toString() : null);
+
         return "checker-results";
     }
+
+    /**
+     * 입상 기록 변경 피드
+     * - since 이후 추가/삭제된 기록만 반환 (truncated=true이면 전체 기록을 다시 조회해야 함)
+     */
+    @GetMapping("/changes")
+    @ResponseBody
+    public ResponseEntity<AwardChangeFeedService.ChangeFeed> changes(
+            @RequestParam String playerName,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return ResponseEntity.ok(awardChangeFeedService.findChangesSince(Player.normalizeName(playerName), since));
+    }
 }
\ No newline at end of file
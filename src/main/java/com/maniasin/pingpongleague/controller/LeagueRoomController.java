@@ -7,7 +7,7 @@ import com.maniasin.pingpongleague.dto.*;
 import com.maniasin.pingpongleague.repository.UserRepository;
 import com.maniasin.pingpongleague.service.LeagueRoomService;
 import com.maniasin.pingpongleague.service.MatchService;
-import com.maniasin.pingpongleague.service.RankingService;
+import com.maniasin.pingpongleague.service.RoomStandingsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -26,7 +26,7 @@ public class LeagueRoomController {
     private final LeagueRoomService leagueRoomService;
     private final MatchService matchService;
     private final UserRepository userRepository;
-    private final RankingService rankingService;
+    private final RoomStandingsService roomStandingsService;
 
     @PostMapping
     public ResponseEntity<Void> createLeagueRoom(@RequestBody LeagueRoomCreateRequestDto requestDto, @AuthenticationPrincipal UserDetails userDetails) {
@@ -40,6 +40,7 @@ public class LeagueRoomController {
                 requestDto.getGameType(),
                 requestDto.getMatchFormat(),
                 requestDto.getRoundRobinRankingType(),
+                requestDto.getTieBreakers(),
                 requestDto.getTournamentType(),
                 requestDto.getTeamSize(),
                 requestDto.getTeamMatchFormat(),
@@ -267,19 +268,17 @@ public class LeagueRoomController {
     @GetMapping("/{roomId}/group-details")
     public ResponseEntity<List<GroupDetailDto>> getGroupDetails(@PathVariable Long roomId) {
         LeagueRoom leagueRoom = leagueRoomService.getLeagueRoomById(roomId);
-        List<Match> allMatches = matchService.getMatchesByLeagueRoom(leagueRoom);
+        RoomStandingsService.RoomStandings roomStandings = roomStandingsService.getRoomStandings(leagueRoom);
         
         List<GroupDetailDto> groupDetails = new ArrayList<>();
-        Map<String, List<Match>> originalGroupedMatches = allMatches.stream()
-                .filter(match -> match.getLeagueGroup() != null && match.getPlayer2() != null)
-                .collect(Collectors.groupingBy(match -> match.getLeagueGroup().getGroupName(), TreeMap::new, Collectors.toList()));
-
-        LeagueRoom.RoundRobinRankingType rankingType = leagueRoom.getRoundRobinRankingType() != null
-                ? leagueRoom.getRoundRobinRankingType()
-                : LeagueRoom.RoundRobinRankingType.POINTS;
-
-        originalGroupedMatches.forEach((groupName, matches) -> {
-            List<GroupStandingDto> standings = rankingService.calculateGroupStandings(matches, rankingType);
+        roomStandings.getGroups().forEach((groupName, group) -> {
+            List<Match> matches = group.getMatches().stream()
+                    .filter(match -> match.getPlayer2() != null)
+                    .toList();
+            if (matches.isEmpty()) {
+                return;
+            }
+            List<GroupStandingDto> standings = group.getStandings();
             boolean allFinished = matches.stream().allMatch(m -> m.getStatus() == Match.MatchStatus.COMPLETED);
             List<com.maniasin.pingpongleague.dto.GridPlayerDto> players = standings.stream()
                     .sorted(Comparator.comparingInt(GroupStandingDto::getRank))
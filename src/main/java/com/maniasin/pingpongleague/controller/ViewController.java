@@ -10,8 +10,7 @@ import com.maniasin.pingpongleague.dto.LeagueRoomResponseDto;
 import com.maniasin.pingpongleague.dto.MatchDetailDto;
 import com.maniasin.pingpongleague.repository.UserRepository;
 import com.maniasin.pingpongleague.service.LeagueRoomService;
-import com.maniasin.pingpongleague.service.MatchService;
-import com.maniasin.pingpongleague.service.RankingService;
+import com.maniasin.pingpongleague.service.RoomStandingsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -28,8 +27,7 @@ import java.util.stream.Collectors;
 public class ViewController {
 
     private final LeagueRoomService leagueRoomService;
-    private final MatchService matchService;
-    private final RankingService rankingService;
+    private final RoomStandingsService roomStandingsService;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper; // ObjectMapper 필드 추가
 
@@ -47,6 +45,8 @@ public class ViewController {
     @GetMapping("/league-rooms/new")
     public String createLeagueRoomPage(Model model) {
         model.addAttribute("gameTypes", LeagueRoom.GameType.values());
+        model.addAttribute("tieBreakers", LeagueRoom.TieBreaker.values());
+        model.addAttribute("defaultTieBreakers", LeagueRoom.DEFAULT_TIE_BREAKERS);
         return "create-league-room";
     }
 
@@ -61,27 +61,27 @@ public class ViewController {
     public String editLeagueRoomPage(@PathVariable Long roomId, Model model) {
         LeagueRoom leagueRoom = leagueRoomService.getLeagueRoomById(roomId);
         model.addAttribute("leagueRoom", new LeagueRoomResponseDto(leagueRoom));
+        model.addAttribute("tieBreakers", LeagueRoom.TieBreaker.values());
         return "edit-league-room";
     }
 
     @GetMapping("/league-rooms/{roomId}/matches")
     public String matchListPage(@PathVariable Long roomId, Model model) throws JsonProcessingException {
         LeagueRoom leagueRoom = leagueRoomService.getLeagueRoomById(roomId);
-        List<Match> allMatches = matchService.getMatchesByLeagueRoom(leagueRoom);
+        RoomStandingsService.RoomStandings roomStandings = roomStandingsService.getRoomStandings(leagueRoom);
+        List<Match> allMatches = roomStandings.getMatches();
         boolean isLeagueCompleted = leagueRoom.getStatus() == LeagueRoom.RoomStatus.COMPLETED;
 
         // --- 예선전 데이터 처리 ---
         List<GroupDetailDto> groupDetails = new ArrayList<>();
-        Map<String, List<Match>> originalGroupedMatches = allMatches.stream()
-                .filter(match -> match.getLeagueGroup() != null && match.getPlayer2() != null)
-                .collect(Collectors.groupingBy(match -> match.getLeagueGroup().getGroupName(), TreeMap::new, Collectors.toList()));
-
-        LeagueRoom.RoundRobinRankingType rankingType = leagueRoom.getRoundRobinRankingType() != null
-                ? leagueRoom.getRoundRobinRankingType()
-                : LeagueRoom.RoundRobinRankingType.POINTS;
-
-        originalGroupedMatches.forEach((groupName, matches) -> {
-            List<GroupStandingDto> standings = rankingService.calculateGroupStandings(matches, rankingType);
+        roomStandings.getGroups().forEach((groupName, group) -> {
+            List<Match> matches = group.getMatches().stream()
+                    .filter(match -> match.getPlayer2() != null)
+                    .toList();
+            if (matches.isEmpty()) {
+                return;
+            }
+            List<GroupStandingDto> standings = group.getStandings();
             boolean allFinished = matches.stream().allMatch(m -> m.getStatus() == Match.MatchStatus.COMPLETED);
             List<com.maniasin.pingpongleague.dto.GridPlayerDto> players = standings.stream()
                     .sorted(Comparator.comparingInt(GroupStandingDto::getRank))
@@ -106,7 +106,7 @@ public class ViewController {
 
         // --- 본선 토너먼트 데이터 처리 ---
         List<Match> mainTournamentMatches = allMatches.stream().filter(m -> m.getLeagueGroup() == null).toList();
-        boolean allPreliminariesFinished = !originalGroupedMatches.isEmpty() && groupDetails.stream().allMatch(GroupDetailDto::isFinished);
+        boolean allPreliminariesFinished = !groupDetails.isEmpty() && groupDetails.stream().allMatch(GroupDetailDto::isFinished);
         model.addAttribute("canAdvanceToFinals", leagueRoom.getMatchFormat() == LeagueRoom.MatchFormat.PRELIMINARY_TOURNAMENT &&
                 allPreliminariesFinished && mainTournamentMatches.isEmpty());
 
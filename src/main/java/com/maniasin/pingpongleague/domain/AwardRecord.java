@@ -3,6 +3,8 @@ package com.maniasin.pingpongleague.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @Setter
@@ -11,7 +13,8 @@ import lombok.*;
 public class AwardRecord {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "award_records_seq")
+    @SequenceGenerator(name = "award_records_seq", sequenceName = "award_records_seq", allocationSize = 50)
     @Column(name = "record_id")
     private Long id;
 
@@ -32,12 +35,18 @@ public class AwardRecord {
     @Column(nullable = false)
     private String placing; // 성적 (예: 우승, 준우승)
 
+    @Column(length = 50)
+    private String sourceSite; // 기록을 수집한 사이트 (이전에 저장된 기록은 null)
+
+    private LocalDateTime missingSince; // 사이트 전체를 확인했을 때 보이지 않게 된 시각 (다시 보이면 null)
+
     @Builder
-    public AwardRecord(Player player, Tournament tournament, String division, String detail, String placing) {
+    public AwardRecord(Player player, Tournament tournament, String division, String detail, String placing, String sourceSite) {
         this.player = player;
         this.tournament = tournament;
         this.division = division;
         this.detail = detail;
         this.placing = placing;
+        this.sourceSite = sourceSite;
     }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.maniasin.pingpongleague.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 입상 기록 변경 이력 (크롤링 결과 차이)
+ * - 크롤링에서 새로 생긴 기록(ADDED)과 사이트에서 사라진 기록(REMOVED)만 한 줄씩 저장
+ * - 삭제된 기록도 보여줄 수 있도록 기록 내용을 함께 보관
+ * - 일정 기간이 지나면 삭제 (crawler.changes.retention-days)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "award_record_changes", indexes = {
+    @Index(name = "idx_award_change_player_time", columnList = "player_id, changedAt")
+})
+public class AwardRecordChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "award_record_changes_seq")
+    @SequenceGenerator(name = "award_record_changes_seq", sequenceName = "award_record_changes_seq", allocationSize = 50)
+    @Column(name = "change_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id", nullable = false)
+    private Player player;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChangeType changeType;
+
+    @Column(nullable = false, length = 50)
+    private String siteName; // 변경을 발견한 사이트
+
+    @Column(nullable = false)
+    private String tournamentName;
+
+    @Column(nullable = false)
+    private LocalDate tournamentDate;
+
+    private String organizer;
+
+    @Column(nullable = false)
+    private String division;
+
+    @Column(nullable = false)
+    private String detail;
+
+    @Column(nullable = false)
+    private String placing;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    @Builder
+    public AwardRecordChange(Player player, ChangeType changeType, String siteName, AwardRecord record, LocalDateTime changedAt) {
+        this.player = player;
+        this.changeType = changeType;
+        this.siteName = siteName;
+        this.tournamentName = record.getTournament().getName();
+        this.tournamentDate = record.getTournament().getTournamentDate();
+        this.organizer = record.getTournament().getOrganizer();
+        this.division = record.getDivision();
+        this.detail = record.getDetail();
+        this.placing = record.getPlacing();
+        this.changedAt = changedAt;
+    }
+
+    public enum ChangeType {
+        ADDED,   // 새로 수집된 기록
+        REMOVED  // 사이트에서 사라진 기록
+    }
+}
@@ -0,0 +1,69 @@
+package com.maniasin.pingpongleague.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 증분 크롤링 기준점 (선수 + 사이트 단위)
+ * - 사이트에서 마지막으로 확인한 가장 최근 대회 날짜 저장
+ * - 다음 크롤링은 이 날짜보다 오래된 기록이 보이면 페이지 넘김을 멈춤
+ * - 일정 기간마다 전체 크롤링을 다시 하여 늦게 올라온 과거 기록도 반영
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "crawl_watermarks", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_watermark_player_site", columnNames = {"playerName", "siteKey"})
+})
+public class CrawlWatermark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "watermark_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String playerName;
+
+    @Column(nullable = false, length = 50)
+    private String siteKey;
+
+    private LocalDate latestTournamentDate; // 확인한 가장 최근 대회 날짜
+
+    @Column(nullable = false)
+    private LocalDateTime lastFullCrawlAt; // 마지막 전체 크롤링 시간
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public CrawlWatermark(String playerName, String siteKey, LocalDate latestTournamentDate,
+                          LocalDateTime lastFullCrawlAt, LocalDateTime updatedAt) {
+        this.playerName = playerName;
+        this.siteKey = siteKey;
+        this.latestTournamentDate = latestTournamentDate;
+        this.lastFullCrawlAt = lastFullCrawlAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * 크롤링 결과 반영
+     * - 기준 날짜는 앞으로만 이동
+     */
+    public void advance(LocalDate seenLatestDate, boolean fullCrawl) {
+        LocalDateTime now = LocalDateTime.now();
+        if (seenLatestDate != null && (latestTournamentDate == null || seenLatestDate.isAfter(latestTournamentDate))) {
+            this.latestTournamentDate = seenLatestDate;
+        }
+        if (fullCrawl) {
+            this.lastFullCrawlAt = now;
+        }
+        this.updatedAt = now;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
  * 크롤링 캐시 데이터를 DB에 저장하는 엔티티
  * - 선수별 마지막 크롤링 시간 및 결과 저장
  * - 유효기간 체크하여 재크롤링 필요 여부 판단
+ * - 조회 빈도 기록 (자주 조회되는 선수는 만료 전에 미리 크롤링)
  */
 @Entity
 @Getter
@@ -42,6 +44,12 @@ public class CrawlingCache {
     @Column(length = 1000)
     private String sitesScraped; // 크롤링한 사이트 목록 (콤마 구분)
 
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int searchCount; // 조회 횟수 (매일 절반으로 감쇠)
+
+    private LocalDateTime lastSearchedAt; // 마지막 조회 시간
+
     @Builder
     public CrawlingCache(String playerName, LocalDateTime lastCrawledAt, 
                         LocalDateTime expiresAt, int recordCount, String sitesScraped) {
@@ -50,6 +58,9 @@ public class CrawlingCache {
         this.expiresAt = expiresAt;
         this.recordCount = recordCount;
         this.sitesScraped = sitesScraped;
+        // 캐시는 조회로 시작된 크롤링이 끝나야 만들어지므로 첫 조회를 포함
+        this.searchCount = 1;
+        this.lastSearchedAt = lastCrawledAt;
     }
 
     /**
@@ -62,6 +73,14 @@ public class CrawlingCache {
         this.sitesScraped = newSitesScraped;
     }
 
+    /**
+     * 일부 사이트만 수집된 크롤링 결과 반영 (수집 시각과 만료 시각은 유지)
+     */
+    public void recordPartialCrawl(int newRecordCount, String newSitesScraped) {
+        this.recordCount = newRecordCount;
+        this.sitesScraped = newSitesScraped;
+    }
+
     /**
      * 캐시가 유효한지 체크
      */
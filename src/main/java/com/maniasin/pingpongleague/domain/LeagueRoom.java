@@ -13,7 +13,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Getter
@@ -21,6 +24,9 @@ import java.util.List;
 @Table(name = "league_rooms")
 public class LeagueRoom {
 
+    // 동점자 처리 기본 순서: 2명 동점이면 승자승, 3명 이상이면 동점자 간 세트 득실률
+    public static final List<TieBreaker> DEFAULT_TIE_BREAKERS = List.of(TieBreaker.HEAD_TO_HEAD, TieBreaker.TIED_SET_RATIO);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "room_id")
@@ -52,6 +58,10 @@ public class LeagueRoom {
     @Enumerated(EnumType.STRING)
     private RoundRobinRankingType roundRobinRankingType;
 
+    // 동점자 처리 순서 (TieBreaker 이름을 쉼표로 연결, 비어 있으면 기본 순서)
+    @Column(length = 200)
+    private String tieBreakers;
+
     @Setter
     @Enumerated(EnumType.STRING)
     private TournamentType tournamentType;
@@ -129,6 +139,9 @@ public class LeagueRoom {
         if (requestDto.getRoundRobinRankingType() != null) {
             this.roundRobinRankingType = requestDto.getRoundRobinRankingType();
         }
+        if (requestDto.getTieBreakers() != null) {
+            setTieBreakerChain(requestDto.getTieBreakers());
+        }
         if (requestDto.getTeamSize() != null) {
             this.teamSize = requestDto.getTeamSize();
         }
@@ -142,6 +155,30 @@ public class LeagueRoom {
         );
     }
 
+    /**
+     * 동점자 처리 순서 (설정하지 않았으면 기본 순서)
+     */
+    public List<TieBreaker> getTieBreakerChain() {
+        if (tieBreakers == null || tieBreakers.isBlank()) {
+            return DEFAULT_TIE_BREAKERS;
+        }
+        List<TieBreaker> chain = Arrays.stream(tieBreakers.split(","))
+                .map(String::trim)
+                .map(TieBreaker::fromName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        return chain.isEmpty() ? DEFAULT_TIE_BREAKERS : chain;
+    }
+
+    public void setTieBreakerChain(List<TieBreaker> chain) {
+        if (chain == null || chain.isEmpty()) {
+            this.tieBreakers = null;
+            return;
+        }
+        this.tieBreakers = String.join(",", new LinkedHashSet<>(chain).stream().filter(Objects::nonNull).map(Enum::name).toList());
+    }
+
     @JsonFormat(shape = JsonFormat.Shape.OBJECT)
     public enum GameType {
         SINGLE("단식"), DOUBLE("복식"), TEAM("단체전");
@@ -174,6 +211,31 @@ public class LeagueRoom {
         public String getDisplayName() { return displayName; }
     }
 
+    /**
+     * 조별리그 동점자 처리 기준 (승점/승수가 같을 때 앞에서부터 차례로 적용)
+     */
+    @JsonFormat(shape = JsonFormat.Shape.OBJECT)
+    public enum TieBreaker {
+        HEAD_TO_HEAD("승자승"),
+        TIED_SET_RATIO("동점자 간 세트 득실률"),
+        SET_DIFFERENCE("세트 득실차"),
+        TOTAL_SET_RATIO("전체 세트 득실률"),
+        LOTS("추첨");
+        private final String displayName;
+        TieBreaker(String displayName) { this.displayName = displayName; }
+        public String getDisplayName() { return displayName; }
+
+        // 저장된 이름을 변환 (없어진 기준은 null)
+        static TieBreaker fromName(String name) {
+            for (TieBreaker tieBreaker : values()) {
+                if (tieBreaker.name().equals(name)) {
+                    return tieBreaker;
+                }
+            }
+            return null;
+        }
+    }
+
     @JsonFormat(shape = JsonFormat.Shape.OBJECT)
     public enum TournamentType {
         STANDARD("단방향 (순차 진행)"), SPLIT("양방향 (좌우 대칭)");
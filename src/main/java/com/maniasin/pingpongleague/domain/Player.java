@@ -34,6 +34,14 @@ public class Player {
         this.region = region;
     }
 
+    /**
+     * 조회 요청의 선수 이름을 저장/크롤링/캐시에 쓰는 이름으로 정규화 (앞뒤 공백 제거, 연속 공백은 하나로)
+     * - 공백 차이로 같은 선수의 기록이 다른 이름으로 저장되거나 크롤링이 중복되지 않도록 요청 입구에서 한 번 적용
+     */
+    public static String normalizeName(String name) {
+        return name == null ? "" : name.trim().replaceAll("\\s+", " ");
+    }
+
     public void addAwardRecord(AwardRecord awardRecord) {
         this.awardRecords.add(awardRecord);
         awardRecord.setPlayer(this);
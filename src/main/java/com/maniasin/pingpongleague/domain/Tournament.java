@@ -15,7 +15,8 @@ import java.time.LocalDate;
 public class Tournament {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tournaments_seq")
+    @SequenceGenerator(name = "tournaments_seq", sequenceName = "tournaments_seq", allocationSize = 50)
     @Column(name = "tournament_id")
     private Long id;
 
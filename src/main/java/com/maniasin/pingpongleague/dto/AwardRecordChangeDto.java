@@ -0,0 +1,36 @@
+package com.maniasin.pingpongleague.dto;
+
+import com.maniasin.pingpongleague.domain.AwardRecordChange;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 입상 기록 변경 (추가/삭제된 기록 한 건)
+ */
+@Getter
+@Builder
+public class AwardRecordChangeDto {
+
+    private AwardRecordChange.ChangeType changeType;
+    private String siteName;
+    private LocalDateTime changedAt;
+    private AwardRecordDto record;
+
+    public static AwardRecordChangeDto from(AwardRecordChange change) {
+        return AwardRecordChangeDto.builder()
+                .changeType(change.getChangeType())
+                .siteName(change.getSiteName())
+                .changedAt(change.getChangedAt())
+                .record(AwardRecordDto.builder()
+                        .tournamentName(change.getTournamentName())
+                        .tournamentDate(change.getTournamentDate())
+                        .organizer(change.getOrganizer())
+                        .division(change.getDivision())
+                        .detail(change.getDetail())
+                        .placing(change.getPlacing())
+                        .build())
+                .build();
+    }
+}
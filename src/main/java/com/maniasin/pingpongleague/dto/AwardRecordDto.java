@@ -0,0 +1,48 @@
+package com.maniasin.pingpongleague.dto;
+
+import com.maniasin.pingpongleague.domain.AwardRecord;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 결과 화면에 보여줄 입상 기록
+ * - 엔티티 대신 캐시(Caffeine/Redis)에 저장하기 위한 직렬화 가능한 값
+ */
+@Getter
+@Builder
+public class AwardRecordDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String tournamentName;
+    private LocalDate tournamentDate;
+    private String organizer;
+    private String division;
+    private String detail;
+    private String placing;
+
+    /**
+     * 성적 요약 분류 (우승 / 준우승 / 3위 / 기타)
+     */
+    public String getPlacingGroup() {
+        String trimmed = placing == null ? "" : placing.trim();
+        if (trimmed.contains("준우승") || trimmed.contains("2위")) return "준우승";
+        if (trimmed.contains("우승") || trimmed.contains("1위")) return "우승"; // "우승"은 두 번째로 체크
+        if (trimmed.contains("3위") || trimmed.contains("4강")) return "3위";
+        return "기타";
+    }
+
+    public static AwardRecordDto from(AwardRecord record) {
+        return AwardRecordDto.builder()
+                .tournamentName(record.getTournament().getName())
+                .tournamentDate(record.getTournament().getTournamentDate())
+                .organizer(record.getTournament().getOrganizer())
+                .division(record.getDivision())
+                .detail(record.getDetail())
+                .placing(record.getPlacing())
+                .build();
+    }
+}
@@ -10,5 +10,6 @@ public class CrawledRecordDto {
     private String tournamentName;
     private LocalDate tournamentDate;
     private String division;
+    private String detail;
     private String placing;
 }
\ No newline at end of file
@@ -50,6 +50,24 @@ public class GroupStandingDto {
         this.tieBreakerGamesLost = 0;
     }
 
+    /**
+     * 같은 내용의 새 객체 (순위 저장소에서 이전 순위표를 바꾸지 않고 다음 순위표를 만들 때 사용)
+     */
+    public GroupStandingDto copy() {
+        GroupStandingDto copy = new GroupStandingDto(this.playerId, this.playerName);
+        copy.rank = this.rank;
+        copy.played = this.played;
+        copy.wins = this.wins;
+        copy.losses = this.losses;
+        copy.points = this.points;
+        copy.gamesWon = this.gamesWon;
+        copy.gamesLost = this.gamesLost;
+        copy.remarks = this.remarks;
+        copy.tieBreakerGamesWon = this.tieBreakerGamesWon;
+        copy.tieBreakerGamesLost = this.tieBreakerGamesLost;
+        return copy;
+    }
+
     public void recordWin(int gamesWon, int gamesLost) {
         this.played++;
         this.wins++;
@@ -72,6 +90,13 @@ public class GroupStandingDto {
         else this.tieBreakerGamesLost += gamesLost;
     }
 
+    // 동점자 정렬을 다시 할 때 이전 결과 초기화
+    public void resetTieBreaker() {
+        this.remarks = "";
+        this.tieBreakerGamesWon = 0;
+        this.tieBreakerGamesLost = 0;
+    }
+
     // 세트 득실률 계산
     public double getGameRatio() {
         if (this.gamesLost == 0) {
@@ -1,14 +1,30 @@
 package com.maniasin.pingpongleague.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true) // isFinished()로 직렬화되는 "finished" 무시 (노드 간 상태 공유 시 역직렬화)
 public class JobProgress {
     private String status;      // IN_PROGRESS, COMPLETED, FAILED
     private int percentage;     // 0 ~ 100
     private String message;     // "에어핑 크롤링 중..."
+    private String siteName;    // 진행 상황이 발생한 사이트 (사이트별 이벤트가 아니면 null)
+    private List<String> skippedSites; // 장애로 이번 작업에서 제외된 사이트
+    private List<String> failedSites;  // 오류 또는 제한 시간 초과로 수집하지 못한 사이트
+    private Long estimatedWaitSeconds; // 대기열에서 기다리는 경우 예상 대기 시간 (초)
+
+    public boolean isFinished() {
+        return "COMPLETED".equals(status) || "FAILED".equals(status);
+    }
 }
\ No newline at end of file
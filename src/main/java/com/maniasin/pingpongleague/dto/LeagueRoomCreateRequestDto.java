@@ -4,6 +4,8 @@ import com.maniasin.pingpongleague.domain.LeagueRoom;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
 @NoArgsConstructor
 public class LeagueRoomCreateRequestDto {
@@ -12,6 +14,7 @@ public class LeagueRoomCreateRequestDto {
     private LeagueRoom.GameType gameType;
     private LeagueRoom.MatchFormat matchFormat;
     private LeagueRoom.RoundRobinRankingType roundRobinRankingType;
+    private List<LeagueRoom.TieBreaker> tieBreakers; // 동점자 처리 순서 (없으면 기본 순서)
     private int playersPerGroup;
     // <--- 이 부분 수정 시작 ---
     private int advancingPlayersPerGroup;
@@ -22,6 +22,7 @@ public class LeagueRoomResponseDto {
     private LeagueRoom.GameType gameType;
     private LeagueRoom.MatchFormat matchFormat;
     private LeagueRoom.RoundRobinRankingType roundRobinRankingType;
+    private List<LeagueRoom.TieBreaker> tieBreakers;
     private LeagueRoom.TournamentType tournamentType; // 토너먼트 타입 추가
     private LeagueRoom.RoomStatus status;
     private String location;
@@ -47,6 +48,7 @@ public class LeagueRoomResponseDto {
         this.gameType = leagueRoom.getGameType();
         this.matchFormat = leagueRoom.getMatchFormat();
         this.roundRobinRankingType = leagueRoom.getRoundRobinRankingType();
+        this.tieBreakers = leagueRoom.getTieBreakerChain();
         this.tournamentType = leagueRoom.getTournamentType(); // 토너먼트 타입 설정
         this.status = leagueRoom.getStatus();
         this.location = leagueRoom.getLocation();
@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,6 +17,7 @@ public class LeagueRoomUpdateRequestDto {
     private int advancingPlayersPerGroup; // <--- 이 부분 수정 ---
     private LeagueRoom.TournamentType tournamentType;
     private LeagueRoom.RoundRobinRankingType roundRobinRankingType;
+    private List<LeagueRoom.TieBreaker> tieBreakers; // null이면 변경하지 않음
     private Integer teamSize;
     private LeagueRoom.TeamMatchFormat teamMatchFormat;
     private String location;
@@ -0,0 +1,44 @@
+package com.maniasin.pingpongleague.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 선수 기록 조회 결과 (stale-while-revalidate)
+ * - cached: 이전에 수집된 기록이 있어 바로 보여줄 수 있는지 여부
+ * - refreshJobId: 소프트 TTL이 지나 백그라운드 갱신을 시작한 경우의 작업 ID
+ * - jobId: 기록이 없어 크롤링이 끝날 때까지 기다려야 하는 경우의 작업 ID
+ */
+@Getter
+@Builder
+public class RecordLookupDto {
+    private boolean cached;
+    private LocalDateTime lastCrawledAt;
+    private String refreshJobId;
+    private String jobId;
+
+    public long getAgeMinutes() {
+        return lastCrawledAt == null ? 0 : Duration.between(lastCrawledAt, LocalDateTime.now()).toMinutes();
+    }
+
+    /**
+     * "방금 전", "5분 전", "3시간 전", "2일 전" 형태의 데이터 나이
+     */
+    public String getAgeText() {
+        return formatAge(lastCrawledAt);
+    }
+
+    public static String formatAge(LocalDateTime lastCrawledAt) {
+        if (lastCrawledAt == null) {
+            return "";
+        }
+        long minutes = Duration.between(lastCrawledAt, LocalDateTime.now()).toMinutes();
+        if (minutes < 1) return "방금 전";
+        if (minutes < 60) return minutes + "분 전";
+        if (minutes < 60 * 24) return (minutes / 60) + "시간 전";
+        return (minutes / (60 * 24)) + "일 전";
+    }
+}
@@ -0,0 +1,26 @@
+package com.maniasin.pingpongleague.repository;
+
+import com.maniasin.pingpongleague.domain.AwardRecordChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AwardRecordChangeRepository extends JpaRepository<AwardRecordChange, Long> {
+
+    /**
+     * 특정 시각 이후의 변경 이력 (오래된 순)
+     */
+    @Query("SELECT c FROM AwardRecordChange c WHERE c.player.name = :playerName AND c.changedAt > :since " +
+            "ORDER BY c.changedAt ASC, c.id ASC")
+    List<AwardRecordChange> findChangesSince(String playerName, LocalDateTime since, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AwardRecordChange c WHERE c.changedAt < :before")
+    int deleteChangesBefore(LocalDateTime before);
+}
@@ -10,5 +10,9 @@ public interface AwardRecordRepository extends JpaRepository<AwardRecord, Long>
     @Query("SELECT ar FROM AwardRecord ar JOIN FETCH ar.tournament t WHERE ar.player.id = :playerId ORDER BY t.tournamentDate DESC")
     List<AwardRecord> findByPlayerIdWithTournament(@Param("playerId") Long playerId);
 
+    List<AwardRecord> findByPlayerId(Long playerId);
+
+    long countByPlayerId(Long playerId);
+
     boolean existsByPlayerIdAndTournamentIdAndDivisionAndPlacing(Long playerId, Long tournamentId, String division, String placing);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.maniasin.pingpongleague.repository;
+
+import com.maniasin.pingpongleague.domain.CrawlWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CrawlWatermarkRepository extends JpaRepository<CrawlWatermark, Long> {
+
+    Optional<CrawlWatermark> findByPlayerNameAndSiteKey(String playerName, String siteKey);
+}
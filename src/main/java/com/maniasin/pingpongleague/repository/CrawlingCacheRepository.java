@@ -1,12 +1,15 @@
 package com.maniasin.pingpongleague.repository;
 
 import com.maniasin.pingpongleague.domain.CrawlingCache;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,4 +20,28 @@ public interface CrawlingCacheRepository extends JpaRepository<CrawlingCache, Lo
     @Modifying
     @Query("DELETE FROM CrawlingCache c WHERE c.expiresAt < :now")
     void deleteExpiredCaches(LocalDateTime now);
+
+    /**
+     * 조회 횟수 증가
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlingCache c SET c.searchCount = c.searchCount + 1, c.lastSearchedAt = :now WHERE c.playerName = :playerName")
+    int recordSearch(String playerName, LocalDateTime now);
+
+    /**
+     * 조회 횟수 감쇠 (오래전에 많이 조회된 선수가 계속 상위에 남지 않도록)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlingCache c SET c.searchCount = c.searchCount / 2")
+    int decaySearchCounts();
+
+    /**
+     * 미리 크롤링할 대상: 최근 자주 조회되었고 곧 만료되는(또는 이미 만료된) 선수
+     */
+    @Query("SELECT c FROM CrawlingCache c WHERE c.searchCount >= :minSearches AND c.lastSearchedAt >= :searchedSince " +
+            "AND c.expiresAt < :expiresBefore ORDER BY c.searchCount DESC, c.expiresAt ASC")
+    List<CrawlingCache> findPrewarmCandidates(int minSearches, LocalDateTime searchedSince,
+                                              LocalDateTime expiresBefore, Pageable pageable);
 }
@@ -4,9 +4,14 @@ import com.maniasin.pingpongleague.domain.Tournament;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TournamentRepository extends JpaRepository<Tournament, Long> {
     // 대회명과 개최일로 대회를 찾는 메소드 (중복 저장을 방지하기 위해 사용)
     Optional<Tournament> findByNameAndTournamentDate(String name, LocalDate tournamentDate);
+
+    // 크롤링 결과에 포함된 대회들을 한 번의 IN 쿼리로 조회
+    List<Tournament> findByNameIn(Collection<String> names);
 }
\ No newline at end of file
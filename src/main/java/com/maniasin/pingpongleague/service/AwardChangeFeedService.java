@@ -0,0 +1,81 @@
+package com.maniasin.pingpongleague.service;
+
+import com.maniasin.pingpongleague.dto.AwardRecordChangeDto;
+import com.maniasin.pingpongleague.repository.AwardRecordChangeRepository;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 입상 기록 변경 피드
+ * - 특정 시각 이후 추가/삭제된 기록만 돌려주어 화면이 전체 기록을 다시 그리지 않도록 함
+ * - 삭제(REMOVED)는 사이트 결과를 파싱 실패 없이 끝까지 확인한 크롤링에서만 기록 (중간에 멈춘 크롤링은 추가만 기록)
+ * - 보관 기간이 지난 변경 이력은 매일 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AwardChangeFeedService {
+
+    private final AwardRecordChangeRepository awardRecordChangeRepository;
+
+    // 한 번에 돌려줄 최대 변경 수 (넘으면 truncated=true, 전체 기록을 다시 조회해야 함)
+    @Value("${crawler.changes.max-results:500}")
+    private int maxResults;
+
+    // 변경 이력 보관 기간 (일)
+    @Value("${crawler.changes.retention-days:30}")
+    private int retentionDays;
+
+    /**
+     * since 이후의 변경
+     * - 보관 기간보다 오래된 시각을 요청하면 빠진 변경이 있을 수 있으므로 truncated=true
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeed findChangesSince(String playerName, LocalDateTime since) {
+        List<AwardRecordChangeDto> changes = awardRecordChangeRepository
+                .findChangesSince(playerName, since, PageRequest.of(0, maxResults + 1)).stream()
+                .map(AwardRecordChangeDto::from)
+                .toList();
+
+        boolean truncated = changes.size() > maxResults
+                || since.isBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (changes.size() > maxResults) {
+            changes = changes.subList(0, maxResults);
+        }
+        // 다음 요청의 기준 시각: 마지막으로 돌려준 변경 시각 (없으면 요청한 시각 그대로)
+        LocalDateTime until = changes.isEmpty() ? since : changes.get(changes.size() - 1).getChangedAt();
+        return ChangeFeed.builder()
+                .playerName(playerName)
+                .since(since)
+                .until(until)
+                .truncated(truncated)
+                .changes(changes)
+                .build();
+    }
+
+    @Scheduled(cron = "${crawler.changes.purge-cron:0 30 4 * * *}")
+    public void purgeExpiredChanges() {
+        int deleted = awardRecordChangeRepository.deleteChangesBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("오래된 입상 기록 변경 이력 삭제: {}건", deleted);
+    }
+
+    @Getter
+    @Builder
+    public static class ChangeFeed {
+        private final String playerName;
+        private final LocalDateTime since;
+        private final LocalDateTime until;
+        private final boolean truncated;
+        private final List<AwardRecordChangeDto> changes;
+    }
+}
@@ -1,20 +1,24 @@
 package com.maniasin.pingpongleague.service;
 
-import com.maniasin.pingpongleague.domain.AwardRecord;
+import com.maniasin.pingpongleague.config.CacheConfig;
 import com.maniasin.pingpongleague.domain.CrawlingCache;
+import com.maniasin.pingpongleague.dto.AwardRecordDto;
+import com.maniasin.pingpongleague.dto.RecordLookupDto;
 import com.maniasin.pingpongleague.repository.AwardRecordRepository;
 import com.maniasin.pingpongleague.repository.CrawlingCacheRepository;
 import com.maniasin.pingpongleague.repository.PlayerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -29,17 +33,80 @@ public class CheckerService {
     @Value("${crawler.cache-duration-minutes:30}")
     private int cacheDurationMinutes;
 
+    // 이 시간(분)이 지난 기록은 우선 보여주고 백그라운드에서 다시 수집
+    @Value("${crawler.cache-soft-ttl-minutes:10}")
+    private int cacheSoftTtlMinutes;
+
+    /**
+     * stale-while-revalidate 조회
+     * - 이전에 수집한 적이 있으면 기다리지 않고 바로 결과를 보여주도록 cached=true 반환
+     * - 마지막 수집 후 소프트 TTL이 지났으면 백그라운드 갱신 작업을 시작
+     * - 수집 이력(캐시)이 없어도 저장된 입상 기록이 있으면 바로 보여주고 백그라운드 갱신 작업을 시작
+     * - 수집 이력도 기록도 없으면 크롤링 작업을 시작하고 완료될 때까지 기다리도록 jobId 반환
+     */
+    public RecordLookupDto lookup(String playerName) {
+        Optional<CrawlingCache> cache = crawlingCacheRepository.findByPlayerName(playerName);
+        if (cache.isEmpty() && hasStoredRecords(playerName)) {
+            // 캐시 도입 전 데이터이거나 만료 캐시 정리로 이력만 지워진 경우
+            String refreshJobId = crawlerService.startCrawlingJob(playerName, CrawlAdmissionQueue.Priority.REFRESH);
+            log.info("'{}' 선수 수집 이력은 없지만 저장된 기록이 있어 바로 제공, 백그라운드 갱신 시작. Job ID: {}",
+                    playerName, refreshJobId);
+            return RecordLookupDto.builder()
+                    .cached(true)
+                    .refreshJobId(refreshJobId)
+                    .build();
+        }
+        if (cache.isEmpty()) {
+            log.info("'{}' 선수 수집 이력 없음 - 크롤링 후 결과 제공", playerName);
+            return RecordLookupDto.builder()
+                    .cached(false)
+                    .jobId(crawlerService.startCrawlingJob(playerName))
+                    .build();
+        }
+
+        crawlingCacheRepository.recordSearch(playerName, LocalDateTime.now());
+        LocalDateTime lastCrawledAt = cache.get().getLastCrawledAt();
+        String refreshJobId = null;
+        if (lastCrawledAt.plusMinutes(cacheSoftTtlMinutes).isBefore(LocalDateTime.now())) {
+            refreshJobId = crawlerService.startCrawlingJob(playerName, CrawlAdmissionQueue.Priority.REFRESH);
+            log.info("'{}' 선수 기록이 오래되어({}) 백그라운드 갱신 시작. Job ID: {}",
+                    playerName, RecordLookupDto.formatAge(lastCrawledAt), refreshJobId);
+        } else {
+            log.info("'{}' 선수 캐시 적중 ({})", playerName, RecordLookupDto.formatAge(lastCrawledAt));
+        }
+
+        return RecordLookupDto.builder()
+                .cached(true)
+                .lastCrawledAt(lastCrawledAt)
+                .refreshJobId(refreshJobId)
+                .build();
+    }
+
+    private boolean hasStoredRecords(String playerName) {
+        return playerRepository.findByName(playerName)
+                .map(player -> awardRecordRepository.countByPlayerId(player.getId()) > 0)
+                .orElse(false);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getLastCrawledAt(String playerName) {
+        return crawlingCacheRepository.findByPlayerName(playerName).map(CrawlingCache::getLastCrawledAt);
+    }
+
     /**
-     * 선수 기록 조회 (캐시 체크 포함)
-     * - 캐시가 유효하면 DB에서 바로 조회
-     * - 캐시가 없거나 만료되었으면 크롤링 필요 표시
+     * 선수 기록 조회
+     * - 2단계 캐시(Caffeine + Redis)에 있으면 DB를 조회하지 않음
+     * - 크롤링이 끝나면 CrawlerService에서 캐시를 비워 모든 노드가 새 기록을 읽도록 함
      */
+    @Cacheable(value = CacheConfig.PLAYER_RECORDS_CACHE, key = "#playerName")
     @Transactional(readOnly = true)
-    public List<AwardRecord> getExistingRecords(String playerName) {
-        log.info("'{}' 선수 최종 기록 조회", playerName);
+    public List<AwardRecordDto> getExistingRecords(String playerName) {
+        log.info("'{}' 선수 최종 기록 조회 (캐시 미스)", playerName);
         return playerRepository.findByName(playerName)
-                .map(player -> awardRecordRepository.findByPlayerIdWithTournament(player.getId()))
-                .orElse(Collections.emptyList());
+                .map(player -> awardRecordRepository.findByPlayerIdWithTournament(player.getId()).stream()
+                        .map(AwardRecordDto::from)
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .orElseGet(ArrayList::new);
     }
 
     /**
@@ -0,0 +1,228 @@
+package com.maniasin.pingpongleague.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maniasin.pingpongleague.config.CrawlerConfig;
+import com.maniasin.pingpongleague.dto.JobProgress;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여러 노드(인스턴스) 간 크롤링 작업 공유
+ * - 선수(정규화된 이름)별 Redis 임대(SET NX + 만료)로 클러스터 전체에서 한 노드만 크롤링
+ * - 작업 상태를 Redis에 저장하여 어느 노드에서든 /checker/status 조회 가능
+ * - 진행 상황을 Pub/Sub으로 전달하여 다른 노드에 연결된 SSE 구독자도 갱신을 받음
+ * - Redis를 사용할 수 없으면 아무것도 하지 않음 (노드 단위 중복 제거만 동작)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterJobCoordinator {
+
+    private static final String LEASE_KEY_PREFIX = "pingpong:crawl:lease:";
+    private static final String STATUS_KEY_PREFIX = "pingpong:crawl:job:";
+    private static final String PROGRESS_CHANNEL = "pingpong:crawl:progress";
+    private static final String SEPARATOR = "\n";
+
+    // 임대 값이 내 작업 ID일 때만 삭제/연장 (다른 노드가 새로 얻은 임대를 건드리지 않도록)
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final CrawlerConfig crawlerConfig;
+    private final ObjectProvider<RedisConnectionFactory> redisConnectionFactory;
+    private final ObjectMapper objectMapper;
+    private final JobProgressBroadcaster progressBroadcaster;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    // 이 노드가 가진 임대 (선수 키 → 작업 ID)
+    private final Map<String, String> ownedLeases = new ConcurrentHashMap<>();
+
+    private StringRedisTemplate redisTemplate; // Redis를 사용할 수 없으면 null
+    private RedisMessageListenerContainer listenerContainer;
+
+    @PostConstruct
+    public void init() {
+        RedisConnectionFactory connectionFactory = crawlerConfig.isClusterEnabled() ? redisConnectionFactory.getIfAvailable() : null;
+        if (connectionFactory == null || !isReachable(connectionFactory)) {
+            log.info("Redis를 사용할 수 없어 크롤링 중복 제거는 이 노드 안에서만 동작합니다.");
+            return;
+        }
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener((message, pattern) ->
+                onRemoteProgress(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(PROGRESS_CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("클러스터 크롤링 작업 공유 사용 (노드 {})", nodeId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (listenerContainer != null) {
+            try {
+                listenerContainer.destroy();
+            } catch (Exception e) {
+                log.warn("작업 진행 채널 종료 중 오류: {}", e.getMessage());
+            }
+        }
+        ownedLeases.forEach(this::releaseLease);
+    }
+
+    public boolean isEnabled() {
+        return redisTemplate != null;
+    }
+
+    /**
+     * 선수 크롤링 임대 획득
+     * @return 다른 노드가 이미 크롤링 중이면 그 작업 ID, 이 노드가 임대를 얻었으면(또는 Redis 미사용) empty
+     */
+    public Optional<String> acquire(String playerKey, String jobId) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        String leaseKey = LEASE_KEY_PREFIX + playerKey;
+        try {
+            for (int attempt = 0; attempt < 2; attempt++) {
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, jobId, leaseTtl()))) {
+                    ownedLeases.put(playerKey, jobId);
+                    return Optional.empty();
+                }
+                String owner = redisTemplate.opsForValue().get(leaseKey);
+                if (owner != null) {
+                    return Optional.of(owner);
+                }
+                // 조회 직전에 임대가 만료된 경우 한 번 더 시도
+            }
+        } catch (RuntimeException e) {
+            log.warn("크롤링 임대 획득 실패, 이 노드에서 진행합니다: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 작업 상태 공유
+     * - 끝난 상태면 임대를 반납하고 결과 보관 시간만큼 상태 유지
+     */
+    public void publish(String playerKey, String jobId, JobProgress progress) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(progress);
+            Duration ttl = progress.isFinished()
+                    ? Duration.ofMinutes(crawlerConfig.getFinishedJobTtlMinutes())
+                    : leaseTtl();
+            redisTemplate.opsForValue().set(STATUS_KEY_PREFIX + jobId, json, ttl);
+            redisTemplate.convertAndSend(PROGRESS_CHANNEL, nodeId + SEPARATOR + jobId + SEPARATOR + json);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("작업 상태 공유 실패: {} - {}", jobId, e.getMessage());
+        }
+        if (progress.isFinished() && playerKey != null && ownedLeases.remove(playerKey, jobId)) {
+            releaseLease(playerKey, jobId);
+        }
+    }
+
+    /**
+     * 다른 노드에서 시작된 작업 상태 조회
+     */
+    public Optional<JobProgress> find(String jobId) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(STATUS_KEY_PREFIX + jobId);
+            return json == null ? Optional.empty() : Optional.of(objectMapper.readValue(json, JobProgress.class));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("작업 상태 조회 실패: {} - {}", jobId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 진행 중인 작업의 임대 및 상태 만료 시간 연장
+     * - 노드가 죽으면 연장이 멈추고 임대가 만료되어 다른 노드가 다시 크롤링할 수 있음
+     */
+    @Scheduled(fixedDelayString = "${crawler.cluster.renew-interval-ms:15000}")
+    public void renewLeases() {
+        if (!isEnabled() || ownedLeases.isEmpty()) {
+            return;
+        }
+        String ttlMillis = String.valueOf(leaseTtl().toMillis());
+        ownedLeases.forEach((playerKey, jobId) -> {
+            try {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY_PREFIX + playerKey), jobId, ttlMillis);
+                if (renewed == null || renewed == 0) {
+                    log.warn("크롤링 임대를 잃었습니다: {} (작업 {})", playerKey, jobId);
+                    ownedLeases.remove(playerKey, jobId);
+                    return;
+                }
+                redisTemplate.expire(STATUS_KEY_PREFIX + jobId, leaseTtl());
+            } catch (RuntimeException e) {
+                log.warn("크롤링 임대 연장 실패: {} - {}", playerKey, e.getMessage());
+            }
+        });
+    }
+
+    private void releaseLease(String playerKey, String jobId) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + playerKey), jobId);
+        } catch (RuntimeException e) {
+            log.warn("크롤링 임대 반납 실패 (만료 시간 후 자동 해제): {} - {}", playerKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 진행 상황을 이 노드의 SSE 구독자에게 전달
+     */
+    private void onRemoteProgress(String message) {
+        String[] parts = message.split(SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            progressBroadcaster.publish(parts[1], objectMapper.readValue(parts[2], JobProgress.class));
+        } catch (JsonProcessingException e) {
+            log.warn("작업 진행 메시지 해석 실패: {}", e.getMessage());
+        }
+    }
+
+    private Duration leaseTtl() {
+        return Duration.ofSeconds(crawlerConfig.getClusterLeaseSeconds());
+    }
+
+    private boolean isReachable(RedisConnectionFactory connectionFactory) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.ping();
+            return true;
+        } catch (RuntimeException e) {
+            log.debug("Redis 연결 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.maniasin.pingpongleague.service;
+
+import com.maniasin.pingpongleague.config.CrawlerConfig;
+import com.maniasin.pingpongleague.service.crawler.CrawlerCircuitBreaker;
+import com.maniasin.pingpongleague.service.crawler.SiteCrawler;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 크롤링 작업 입장 제어 (우선순위 대기열)
+ * - 동시에 실행되는 작업 수를 crawler.max-concurrent-jobs로 제한하고 나머지는 대기열에서 기다림
+ * - 사용자 조회(INTERACTIVE)가 캐시 갱신(REFRESH)보다 먼저 실행됨 (같은 우선순위는 먼저 온 순서)
+ * - 대기는 스레드를 점유하지 않으며, 앞선 작업 수와 사이트별 응답시간으로 예상 대기 시간을 계산
+ * - 예상 대기 시간이 최대 대기 시간을 넘으면 대기열에 넣지 않고 바로 거절
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlAdmissionQueue {
+
+    private final CrawlerConfig crawlerConfig;
+    private final CrawlerCircuitBreaker circuitBreaker;
+    private final List<SiteCrawler> crawlers;
+    @Qualifier("crawlerJobExecutor")
+    private final Executor crawlerJobExecutor;
+
+    private final PriorityQueue<QueuedJob> queue = new PriorityQueue<>(
+            Comparator.comparing((QueuedJob job) -> job.priority).thenComparingLong(job -> job.sequence));
+    private long sequence = 0;
+    private int running = 0;
+
+    // --- 카운터 ---
+    private long admittedCount = 0;
+    private long rejectedCount = 0;
+
+    /**
+     * 작업 입장 요청
+     * - 받아들여지면 실행 자리가 날 때 job을 crawlerJobExecutor에서 실행하고,
+     *   job이 돌려준 Future가 끝날 때 자리를 반납
+     * @param job 작업 시작 (끝나면 완료되는 Future 반환)
+     */
+    public Admission submit(Priority priority, Supplier<CompletableFuture<?>> job) {
+        Duration jobDuration = estimateJobDuration();
+        Duration maxWait = Duration.ofSeconds(crawlerConfig.getAdmissionMaxWaitSeconds());
+        QueuedJob queued;
+
+        synchronized (this) {
+            int slots = Math.max(1, crawlerConfig.getMaxConcurrentJobs());
+            if (running < slots && queue.isEmpty()) {
+                running++;
+                admittedCount++;
+                queued = new QueuedJob(priority, sequence++, job);
+            } else {
+                int ahead = jobsAhead(priority);
+                Duration estimatedWait = jobDuration.multipliedBy(ahead / slots + 1);
+                if (estimatedWait.compareTo(maxWait) > 0) {
+                    rejectedCount++;
+                    log.warn("크롤링 대기열 혼잡으로 거절: 앞선 작업 {}건, 예상 대기 {}초 (우선순위 {})",
+                            ahead, estimatedWait.toSeconds(), priority);
+                    return Admission.rejected(ahead, estimatedWait);
+                }
+                admittedCount++;
+                QueuedJob waiting = new QueuedJob(priority, sequence++, job);
+                queue.add(waiting);
+                log.info("크롤링 대기열 등록: 앞선 작업 {}건, 예상 대기 {}초 (우선순위 {})",
+                        ahead, estimatedWait.toSeconds(), priority);
+                return Admission.queued(ahead, estimatedWait, waiting.completion);
+            }
+        }
+
+        dispatch(queued);
+        return Admission.queued(0, Duration.ZERO, queued.completion);
+    }
+
+    /**
+     * 예상 작업 시간
+     * - 사이트는 병렬로 크롤링하므로 가장 느린 사이트의 응답시간(중앙값) 기준
+     * - 응답시간 기록이 없는 사이트는 기본 작업 시간 사용
+     */
+    public Duration estimateJobDuration() {
+        long defaultMillis = Duration.ofSeconds(crawlerConfig.getAdmissionDefaultJobSeconds()).toMillis();
+        long slowest = 0;
+        for (SiteCrawler crawler : crawlers) {
+            long median = circuitBreaker.latencyPercentile(crawler.getSiteName(), 0.5);
+            slowest = Math.max(slowest, median < 0 ? defaultMillis : median);
+        }
+        return Duration.ofMillis(slowest > 0 ? slowest : defaultMillis);
+    }
+
+    public synchronized Stats getStats() {
+        long interactive = queue.stream().filter(job -> job.priority == Priority.INTERACTIVE).count();
+        return Stats.builder()
+                .running(running)
+                .maxRunning(crawlerConfig.getMaxConcurrentJobs())
+                .queuedInteractive(interactive)
+                .queuedRefresh(queue.size() - interactive)
+                .admitted(admittedCount)
+                .rejected(rejectedCount)
+                .estimatedJobMillis(estimateJobDuration().toMillis())
+                .build();
+    }
+
+    private void dispatch(QueuedJob queued) {
+        try {
+            CompletableFuture.supplyAsync(queued.job, crawlerJobExecutor)
+                    .thenCompose(future -> future)
+                    .whenComplete((ignored, ex) -> {
+                        finish();
+                        if (ex != null) {
+                            queued.completion.completeExceptionally(ex);
+                        } else {
+                            queued.completion.complete(null);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            finish();
+            queued.completion.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 실행 자리 반납 후 대기열의 다음 작업 실행
+     */
+    private void finish() {
+        QueuedJob next;
+        synchronized (this) {
+            next = queue.poll();
+            if (next == null) {
+                running--;
+                return;
+            }
+        }
+        // 자리를 그대로 다음 작업에 넘김 (잠금 밖에서 실행)
+        dispatch(next);
+    }
+
+    /**
+     * 새 작업보다 먼저 실행될 작업 수 (같거나 높은 우선순위의 대기 작업)
+     */
+    private int jobsAhead(Priority priority) {
+        return (int) queue.stream().filter(job -> job.priority.compareTo(priority) <= 0).count();
+    }
+
+    /**
+     * 작업 우선순위 (선언 순서가 높은 우선순위)
+     */
+    public enum Priority {
+        INTERACTIVE, // 기록이 없어 사용자가 결과를 기다리는 조회
+        REFRESH      // 캐시 갱신, 미리 크롤링
+    }
+
+    private static class QueuedJob {
+        private final Priority priority;
+        private final long sequence;
+        private final Supplier<CompletableFuture<?>> job;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        QueuedJob(Priority priority, long sequence, Supplier<CompletableFuture<?>> job) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.job = job;
+        }
+    }
+
+    /**
+     * 입장 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Admission {
+        private final boolean accepted;
+        private final int jobsAhead;
+        private final Duration estimatedWait;
+        private final CompletableFuture<Void> completion; // 작업이 끝나면 완료 (거절되면 null)
+
+        static Admission queued(int jobsAhead, Duration estimatedWait, CompletableFuture<Void> completion) {
+            return new Admission(true, jobsAhead, estimatedWait, completion);
+        }
+
+        static Admission rejected(int jobsAhead, Duration estimatedWait) {
+            return new Admission(false, jobsAhead, estimatedWait, null);
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class Stats {
+        private final int running;
+        private final int maxRunning;
+        private final long queuedInteractive;
+        private final long queuedRefresh;
+        private final long admitted;
+        private final long rejected;
+        private final long estimatedJobMillis;
+    }
+}
@@ -0,0 +1,226 @@
+package com.maniasin.pingpongleague.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maniasin.pingpongleague.config.CrawlerConfig;
+import com.maniasin.pingpongleague.domain.Player;
+import com.maniasin.pingpongleague.dto.JobProgress;
+import jakarta.annotation.PostConstruct;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크롤링 작업 등록부
+ * - 진행 중인 작업은 선수명(정규화) 단위로 하나만 존재 (putIfAbsent로 자리를 먼저 잡아 원자적 중복 제거)
+ * - Redis가 있으면 다른 노드에서 진행 중인 작업도 중복으로 보고 그 작업 ID 반환 (ClusterJobCoordinator)
+ *   Redis 임대는 맵 연산 밖에서 얻음 (네트워크 대기 중에 같은 버킷의 다른 등록/완료가 막히지 않도록)
+ * - 끝난 작업(COMPLETED/FAILED)은 일정 시간 동안만 결과를 보관하고 자동 삭제 (최대 개수 제한)
+ * - 대기/진행/완료 작업 수 등 카운터 제공
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlJobRegistry {
+
+    private final CrawlerConfig crawlerConfig;
+    private final ClusterJobCoordinator clusterCoordinator;
+
+    private final Map<String, ActiveJob> activeJobs = new ConcurrentHashMap<>();
+    private final Map<String, ActiveJob> activeJobsByPlayer = new ConcurrentHashMap<>();
+    private Cache<String, JobProgress> finishedJobs;
+
+    // --- 카운터 ---
+    private final AtomicLong submittedCount = new AtomicLong(0);
+    private final AtomicLong deduplicatedCount = new AtomicLong(0);
+    private final AtomicLong remoteDeduplicatedCount = new AtomicLong(0);
+    private final AtomicLong completedCount = new AtomicLong(0);
+    private final AtomicLong failedCount = new AtomicLong(0);
+    private final AtomicLong rejectedCount = new AtomicLong(0);
+
+    @PostConstruct
+    public void init() {
+        finishedJobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(crawlerConfig.getFinishedJobTtlMinutes()))
+                .maximumSize(crawlerConfig.getMaxFinishedJobs())
+                .build();
+    }
+
+    /**
+     * 선수에 대한 작업 등록
+     * - 이미 진행 중인 작업이 있으면 해당 작업을 반환 (created == false)
+     * - 다른 노드에서 진행 중이면 그 노드의 작업 ID 반환 (created == false)
+     * @throws IllegalStateException 진행 중인 작업 수가 최대치에 도달한 경우
+     */
+    public Registration register(String playerName, JobProgress initialProgress) {
+        String key = Player.normalizeName(playerName);
+
+        // 1. 선수 자리를 먼저 잡음 - 이미 있으면 그 작업(임대 확인 중이면 결과를 기다림)으로 중복 처리
+        ActiveJob candidate = new ActiveJob(UUID.randomUUID().toString(), key, initialProgress);
+        ActiveJob existing = activeJobsByPlayer.putIfAbsent(key, candidate);
+        if (existing != null) {
+            return joinExisting(existing);
+        }
+
+        // 2. 맵 밖에서 한도 확인과 Redis 임대 획득, 결과에 따라 자리를 확정하거나 비움
+        String remoteJobId;
+        try {
+            if (activeJobs.size() >= crawlerConfig.getMaxActiveJobs()) {
+                throw new IllegalStateException("진행 중인 크롤링 작업이 너무 많습니다.");
+            }
+            remoteJobId = clusterCoordinator.acquire(key, candidate.jobId).orElse(null);
+        } catch (RuntimeException e) {
+            activeJobsByPlayer.remove(key, candidate);
+            candidate.resolution.completeExceptionally(e);
+            throw e;
+        }
+
+        if (remoteJobId != null) {
+            activeJobsByPlayer.remove(key, candidate);
+            candidate.resolution.complete(remoteJobId);
+            remoteDeduplicatedCount.incrementAndGet();
+            return new Registration(remoteJobId, false);
+        }
+        activeJobs.put(candidate.jobId, candidate);
+        candidate.resolution.complete(null);
+        submittedCount.incrementAndGet();
+        clusterCoordinator.publish(key, candidate.jobId, initialProgress);
+        return new Registration(candidate.jobId, true);
+    }
+
+    // 같은 선수의 다른 등록이 임대를 확인하는 동안에는 그 결과를 기다림 (노드당 한 번만 임대를 시도)
+    private Registration joinExisting(ActiveJob existing) {
+        String remoteJobId;
+        try {
+            remoteJobId = existing.resolution.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        if (remoteJobId != null) {
+            remoteDeduplicatedCount.incrementAndGet();
+            return new Registration(remoteJobId, false);
+        }
+        deduplicatedCount.incrementAndGet();
+        return new Registration(existing.jobId, false);
+    }
+
+    /**
+     * 즉시 실패 처리된 작업 등록 (혼잡 등으로 작업을 받을 수 없는 경우)
+     */
+    public String registerRejected(JobProgress failedProgress) {
+        String jobId = UUID.randomUUID().toString();
+        finishedJobs.put(jobId, failedProgress);
+        rejectedCount.incrementAndGet();
+        return jobId;
+    }
+
+    /**
+     * 작업 상태 갱신
+     * - 끝난 상태가 되면 진행 중 목록에서 빼고 만료 캐시로 이동
+     */
+    public void update(String jobId, JobProgress progress) {
+        ActiveJob job = activeJobs.get(jobId);
+        if (job == null) {
+            // 이미 끝난 작업에 대한 늦은 갱신은 무시
+            return;
+        }
+
+        if (!progress.isFinished()) {
+            job.progress = progress;
+            clusterCoordinator.publish(job.playerKey, jobId, progress);
+            return;
+        }
+
+        finishedJobs.put(jobId, progress);
+        clusterCoordinator.publish(job.playerKey, jobId, progress);
+        if (activeJobs.remove(jobId) != null) {
+            activeJobsByPlayer.remove(job.playerKey, job);
+            if ("COMPLETED".equals(progress.getStatus())) {
+                completedCount.incrementAndGet();
+            } else {
+                failedCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 작업 상태 조회
+     * - 이 노드에 없으면 다른 노드에서 시작된 작업인지 공유 저장소에서 조회
+     */
+    public Optional<JobProgress> find(String jobId) {
+        ActiveJob job = activeJobs.get(jobId);
+        if (job != null) {
+            return Optional.of(job.progress);
+        }
+        JobProgress finished = finishedJobs.getIfPresent(jobId);
+        if (finished != null) {
+            return Optional.of(finished);
+        }
+        return clusterCoordinator.find(jobId);
+    }
+
+    public Stats getStats() {
+        long queued = activeJobs.values().stream()
+                .filter(job -> "QUEUED".equals(job.progress.getStatus()))
+                .count();
+        return Stats.builder()
+                .queued(queued)
+                .running(activeJobs.size() - queued)
+                .finished(finishedJobs.estimatedSize())
+                .submitted(submittedCount.get())
+                .deduplicated(deduplicatedCount.get())
+                .remoteDeduplicated(remoteDeduplicatedCount.get())
+                .clusterEnabled(clusterCoordinator.isEnabled())
+                .completed(completedCount.get())
+                .failed(failedCount.get())
+                .rejected(rejectedCount.get())
+                .build();
+    }
+
+    private static class ActiveJob {
+        private final String jobId;
+        private final String playerKey;
+        private volatile JobProgress progress;
+        // 등록 결과: 이 노드의 작업이면 null, 다른 노드가 진행 중이면 그 작업 ID
+        private final CompletableFuture<String> resolution = new CompletableFuture<>();
+
+        ActiveJob(String jobId, String playerKey, JobProgress progress) {
+            this.jobId = jobId;
+            this.playerKey = playerKey;
+            this.progress = progress;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Registration {
+        private final String jobId;
+        private final boolean created;
+    }
+
+    @Getter
+    @Builder
+    public static class Stats {
+        private final long queued;
+        private final long running;
+        private final long finished;
+        private final long submitted;
+        private final long deduplicated;
+        private final long remoteDeduplicated;
+        private final boolean clusterEnabled;
+        private final long completed;
+        private final long failed;
+        private final long rejected;
+    }
+}
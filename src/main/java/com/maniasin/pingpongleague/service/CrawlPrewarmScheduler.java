@@ -0,0 +1,169 @@
+package com.maniasin.pingpongleague.service;
+
+import com.maniasin.pingpongleague.config.CrawlerConfig;
+import com.maniasin.pingpongleague.domain.CrawlingCache;
+import com.maniasin.pingpongleague.dto.JobProgress;
+import com.maniasin.pingpongleague.repository.CrawlingCacheRepository;
+import com.maniasin.pingpongleague.service.crawler.WebDriverPool;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자주 조회되는 선수 미리 크롤링
+ * - 조회 횟수가 많은 선수의 캐시가 만료되기 전에 다시 수집하여 사용자 조회가 캐시에서 바로 처리되도록 함
+ * - 허용 시간대(crawler.prewarm.off-peak-hours)에만 실행
+ * - 사용자 크롤링 작업이 하나라도 있으면 양보하고, 미리 크롤링은 한 번에 한 명씩만 실행
+ * - 시간당 브라우저 사용 시간 예산(crawler.prewarm.browser-minutes-per-hour)을 넘으면 다음 시간까지 중단
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlPrewarmScheduler {
+
+    private final CrawlingCacheRepository crawlingCacheRepository;
+    private final CrawlerService crawlerService;
+    private final CrawlJobRegistry jobRegistry;
+    private final WebDriverPool webDriverPool;
+    private final CrawlerConfig crawlerConfig;
+
+    // 진행 중인 미리 크롤링 작업
+    private String currentJobId;
+
+    // --- 시간당 브라우저 사용 예산 ---
+    private long budgetHour = -1;
+    private long usedLeaseMillis = 0;
+    private long lastTotalLeaseMillis = 0;
+
+    private final AtomicLong startedCount = new AtomicLong(0);
+
+    @Scheduled(fixedDelayString = "${crawler.prewarm.interval-ms:60000}", initialDelayString = "${crawler.prewarm.initial-delay-ms:60000}")
+    public synchronized void prewarm() {
+        if (!crawlerConfig.isPrewarmEnabled()) {
+            return;
+        }
+        accountBrowserTime();
+
+        if (currentJobId != null) {
+            JobProgress progress = crawlerService.getJobStatus(currentJobId);
+            if (!progress.isFinished() && !"UNKNOWN".equals(progress.getStatus())) {
+                return;
+            }
+            currentJobId = null;
+        }
+
+        if (!isOffPeak(LocalTime.now().getHour())) {
+            return;
+        }
+        if (usedLeaseMillis >= budgetMillis()) {
+            log.debug("미리 크롤링 예산 소진: 이번 시간 {}초 사용", usedLeaseMillis / 1000);
+            return;
+        }
+        // 사용자 요청 우선
+        CrawlJobRegistry.Stats jobs = jobRegistry.getStats();
+        if (jobs.getQueued() + jobs.getRunning() > 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CrawlingCache> candidates = crawlingCacheRepository.findPrewarmCandidates(
+                crawlerConfig.getPrewarmMinSearches(),
+                now.minusDays(crawlerConfig.getPrewarmLookbackDays()),
+                now.plusMinutes(crawlerConfig.getPrewarmLeadMinutes()),
+                PageRequest.of(0, 1));
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        CrawlingCache target = candidates.get(0);
+        currentJobId = crawlerService.startCrawlingJob(target.getPlayerName(), CrawlAdmissionQueue.Priority.REFRESH);
+        startedCount.incrementAndGet();
+        log.info("'{}' 선수 미리 크롤링 시작 (조회 {}회, 만료 {}). Job ID: {}",
+                target.getPlayerName(), target.getSearchCount(), target.getExpiresAt(), currentJobId);
+    }
+
+    /**
+     * 조회 횟수 감쇠
+     */
+    @Scheduled(cron = "${crawler.prewarm.decay-cron:0 0 4 * * *}")
+    public void decaySearchCounts() {
+        int updated = crawlingCacheRepository.decaySearchCounts();
+        log.info("선수 조회 횟수 감쇠 완료: {}건", updated);
+    }
+
+    public synchronized Stats getStats() {
+        return Stats.builder()
+                .enabled(crawlerConfig.isPrewarmEnabled())
+                .offPeak(isOffPeak(LocalTime.now().getHour()))
+                .usedBrowserSecondsThisHour(usedLeaseMillis / 1000)
+                .budgetBrowserSecondsPerHour(budgetMillis() / 1000)
+                .currentJobId(currentJobId)
+                .started(startedCount.get())
+                .build();
+    }
+
+    /**
+     * 미리 크롤링이 진행 중이던 동안 늘어난 브라우저 사용 시간을 이번 시간 예산에 반영
+     * - 같은 시간에 사용자 작업이 브라우저를 쓴 경우도 포함되므로 예산은 보수적으로 소진됨
+     */
+    private void accountBrowserTime() {
+        long hour = System.currentTimeMillis() / Duration.ofHours(1).toMillis();
+        if (hour != budgetHour) {
+            budgetHour = hour;
+            usedLeaseMillis = 0;
+        }
+        long totalLeaseMillis = webDriverPool.getTotalLeaseMillis();
+        if (currentJobId != null) {
+            usedLeaseMillis += totalLeaseMillis - lastTotalLeaseMillis;
+        }
+        lastTotalLeaseMillis = totalLeaseMillis;
+    }
+
+    private long budgetMillis() {
+        return Duration.ofMinutes(crawlerConfig.getPrewarmBrowserMinutesPerHour()).toMillis();
+    }
+
+    /**
+     * "0-8,13-15" 형태의 시간대 설정에 현재 시각이 포함되는지 (끝 시각 미포함, 자정을 넘는 "22-6"도 허용)
+     */
+    private boolean isOffPeak(int hour) {
+        for (String range : crawlerConfig.getPrewarmOffPeakHours().split(",")) {
+            String[] bounds = range.trim().split("-");
+            if (bounds.length != 2) {
+                continue;
+            }
+            try {
+                int start = Integer.parseInt(bounds[0].trim());
+                int end = Integer.parseInt(bounds[1].trim());
+                boolean inRange = start <= end ? hour >= start && hour < end : hour >= start || hour < end;
+                if (inRange) {
+                    return true;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 미리 크롤링 시간대 설정: '{}'", range);
+            }
+        }
+        return false;
+    }
+
+    @Getter
+    @Builder
+    public static class Stats {
+        private final boolean enabled;
+        private final boolean offPeak;
+        private final long usedBrowserSecondsThisHour;
+        private final long budgetBrowserSecondsPerHour;
+        private final String currentJobId;
+        private final long started;
+    }
+}
@@ -4,23 +4,30 @@ import com.maniasin.pingpongleague.config.CacheConfig;
 import com.maniasin.pingpongleague.domain.CrawlingCache;
 import com.maniasin.pingpongleague.domain.Player;
 import com.maniasin.pingpongleague.dto.JobProgress;
+import com.maniasin.pingpongleague.repository.AwardRecordRepository;
 import com.maniasin.pingpongleague.repository.CrawlingCacheRepository;
 import com.maniasin.pingpongleague.repository.PlayerRepository;
+import com.maniasin.pingpongleague.service.crawler.CrawlerCircuitBreaker;
+import com.maniasin.pingpongleague.service.crawler.SiteBulkhead;
 import com.maniasin.pingpongleague.service.crawler.SiteCrawler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,74 +38,97 @@ public class CrawlerService {
     private final List<SiteCrawler> crawlers;
     private final PlayerRepository playerRepository;
     private final CrawlingCacheRepository crawlingCacheRepository;
-    @Qualifier("crawlerJobExecutor")
-    private final Executor crawlerJobExecutor;
+    private final AwardRecordRepository awardRecordRepository;
     @Qualifier("crawlerTaskExecutor")
     private final Executor crawlerTaskExecutor;
-    private final Semaphore crawlerSemaphore; // 동시 실행 제한용
-    private final Map<String, JobProgress> jobStatus = new ConcurrentHashMap<>();
+    private final JobProgressBroadcaster progressBroadcaster;
+    private final CrawlJobRegistry jobRegistry; // 작업 상태 보관 및 중복 크롤링 방지
+    private final CrawlerCircuitBreaker circuitBreaker; // 장애 사이트 차단 및 사이트별 제한 시간
+    private final SiteBulkhead siteBulkhead; // 사이트별 동시 실행 제한
+    private final CrawlAdmissionQueue admissionQueue; // 작업 단위 동시 실행 제한 및 우선순위 대기열
+    private final CacheManager cacheManager;
     
     @Value("${crawler.cache-duration-minutes:30}")
     private int cacheDurationMinutes;
-    
-    // 중복 크롤링 방지: 현재 진행 중인 작업 추적
-    private final Map<String, CompletableFuture<String>> ongoingCrawls = new ConcurrentHashMap<>();
+
+    /**
+     * 크롤링 작업 시작 (사용자 조회 우선순위)
+     */
+    public String startCrawlingJob(String playerName) {
+        return startCrawlingJob(playerName, CrawlAdmissionQueue.Priority.INTERACTIVE);
+    }
 
     /**
      * 크롤링 작업 시작
      * - 동일 선수에 대한 중복 크롤링 방지
      * - 이미 진행 중인 작업이 있으면 해당 JobId 반환
+     * - 실행 자리가 없으면 우선순위 대기열에서 기다리고, 예상 대기 시간이 너무 길면 바로 실패 처리
      */
-    public String startCrawlingJob(String playerName) {
-        log.info("크롤링 작업 요청: '{}'", playerName);
-        
-        // 1. 이미 진행 중인 작업이 있는지 확인
-        CompletableFuture<String> ongoingJob = ongoingCrawls.get(playerName);
-        if (ongoingJob != null && !ongoingJob.isDone()) {
-            try {
-                String existingJobId = ongoingJob.get(100, TimeUnit.MILLISECONDS);
-                log.info("동일 선수 크롤링이 이미 진행 중입니다. 기존 JobId 반환: {}", existingJobId);
-                return existingJobId;
-            } catch (TimeoutException e) {
-                // Job이 아직 생성 중이므로 조금 더 기다림
-                try {
-                    String existingJobId = ongoingJob.get(5, TimeUnit.SECONDS);
-                    log.info("동일 선수 크롤링이 이미 진행 중입니다. 기존 JobId 반환: {}", existingJobId);
-                    return existingJobId;
-                } catch (Exception ex) {
-                    log.warn("기존 작업 확인 실패, 새 작업 시작: {}", ex.getMessage());
-                }
-            } catch (Exception e) {
-                log.warn("기존 작업 확인 실패, 새 작업 시작: {}", e.getMessage());
-            }
-        }
+    public String startCrawlingJob(String playerName, CrawlAdmissionQueue.Priority priority) {
+        log.info("크롤링 작업 요청: '{}' (우선순위 {})", playerName, priority);
 
-        // 2. 새로운 작업 생성
-        String jobId = UUID.randomUUID().toString();
-        JobProgress progress = JobProgress.builder()
+        // 1. 작업 등록 (같은 선수의 작업이 진행 중이면 기존 JobId 반환)
+        JobProgress queued = JobProgress.builder()
                 .status("QUEUED")
                 .percentage(0)
                 .message("크롤링 대기 중... (현재 진행 중인 작업이 많아 잠시 대기합니다)")
                 .build();
-        jobStatus.put(jobId, progress);
+        CrawlJobRegistry.Registration registration;
+        try {
+            registration = jobRegistry.register(playerName, queued);
+        } catch (IllegalStateException e) {
+            log.warn("크롤링 작업 등록 거부: '{}' - {}", playerName, e.getMessage());
+            return jobRegistry.registerRejected(JobProgress.builder()
+                    .status("FAILED")
+                    .percentage(0)
+                    .message("서버가 혼잡합니다. 잠시 후 다시 시도해주세요.")
+                    .build());
+        }
 
-        // 3. 작업 시작 CompletableFuture 생성 및 등록
-        CompletableFuture<String> jobFuture = CompletableFuture.supplyAsync(() -> {
-            crawlAllSitesInParallelWithLimit(playerName, jobId);
+        String jobId = registration.getJobId();
+        if (!registration.isCreated()) {
+            log.info("동일 선수 크롤링이 이미 진행 중입니다. 기존 JobId 반환: {}", jobId);
             return jobId;
-        }, crawlerJobExecutor);
-        
-        ongoingCrawls.put(playerName, jobFuture);
-        
-        // 4. 작업 완료 시 ongoingCrawls에서 제거
-        jobFuture.whenComplete((result, ex) -> {
-            ongoingCrawls.remove(playerName);
+        }
+
+        // 2. 입장 제어 (자리가 나면 실행, 예상 대기 시간이 너무 길면 바로 실패 처리)
+        CrawlAdmissionQueue.Admission admission = admissionQueue.submit(priority, () -> runCrawlingJob(playerName, jobId));
+        long waitSeconds = admission.getEstimatedWait().toSeconds();
+        if (!admission.isAccepted()) {
+            updateProgress(jobId, JobProgress.builder()
+                    .status("FAILED")
+                    .percentage(0)
+                    .message(String.format("서버가 혼잡합니다. 잠시 후 다시 시도해주세요. (예상 대기 약 %d초)", waitSeconds))
+                    .estimatedWaitSeconds(waitSeconds)
+                    .build());
+            return jobId;
+        }
+        if (admission.getJobsAhead() > 0) {
+            updateProgress(jobId, JobProgress.builder()
+                    .status("QUEUED")
+                    .percentage(0)
+                    .message(String.format("크롤링 대기 중... (앞선 작업 %d건, 예상 대기 약 %d초)", admission.getJobsAhead(), waitSeconds))
+                    .estimatedWaitSeconds(waitSeconds)
+                    .build());
+        } else {
+            progressBroadcaster.publish(jobId, queued);
+        }
+
+        // 3. 끝나지 못하고 예외가 발생하면 실패 처리
+        admission.getCompletion().whenComplete((result, ex) -> {
             if (ex != null) {
-                log.error("크롤링 작업 실패: {}", ex.getMessage());
-                jobStatus.put(jobId, JobProgress.builder()
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                if (cause instanceof RejectedExecutionException) {
+                    log.warn("크롤링 작업 실행 거부: '{}'", playerName);
+                } else {
+                    log.error("크롤링 작업 실패: {}", cause.getMessage());
+                }
+                updateProgress(jobId, JobProgress.builder()
                         .status("FAILED")
                         .percentage(0)
-                        .message("크롤링 작업 실패: " + ex.getMessage())
+                        .message(cause instanceof RejectedExecutionException
+                                ? "서버가 혼잡합니다. 잠시 후 다시 시도해주세요."
+                                : "크롤링 작업 실패: " + cause.getMessage())
                         .build());
             }
         });
@@ -107,7 +137,7 @@ public class CrawlerService {
     }
 
     public JobProgress getJobStatus(String jobId) {
-        return jobStatus.getOrDefault(jobId, JobProgress.builder()
+        return jobRegistry.find(jobId).orElseGet(() -> JobProgress.builder()
                 .status("UNKNOWN")
                 .percentage(0)
                 .message("알 수 없는 작업입니다.")
@@ -115,151 +145,264 @@ public class CrawlerService {
     }
 
     /**
-     * Semaphore를 사용하여 동시 크롤링 작업 수 제한
+     * 작업 진행 상황 SSE 구독
      */
-    public void crawlAllSitesInParallelWithLimit(String playerName, String jobId) {
-        try {
-            // Semaphore 획득 (동시 실행 제한)
-            log.info("크롤링 작업 대기 중: '{}', Job ID: {}", playerName, jobId);
-            boolean acquired = crawlerSemaphore.tryAcquire(30, TimeUnit.SECONDS);
-            
-            if (!acquired) {
-                log.warn("크롤링 작업 시간 초과: '{}', Job ID: {}", playerName, jobId);
-                jobStatus.put(jobId, JobProgress.builder()
-                        .status("FAILED")
-                        .percentage(0)
-                        .message("서버가 혼잡합니다. 잠시 후 다시 시도해주세요.")
-                        .build());
-                return;
-            }
+    public SseEmitter subscribe(String jobId) {
+        return progressBroadcaster.subscribe(jobId, () -> getJobStatus(jobId));
+    }
 
-            try {
-                log.info("크롤링 작업 시작: '{}', Job ID: {}", playerName, jobId);
-                jobStatus.put(jobId, JobProgress.builder()
-                        .status("IN_PROGRESS")
-                        .percentage(0)
-                        .message("크롤링 준비 중...")
-                        .build());
-                
-                crawlAllSitesInParallel(playerName, jobId);
-            } finally {
-                // Semaphore 해제
-                crawlerSemaphore.release();
-                log.info("크롤링 작업 완료 및 리소스 해제: '{}', Job ID: {}", playerName, jobId);
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("크롤링 작업 인터럽트: '{}', Job ID: {}", playerName, jobId, e);
-            jobStatus.put(jobId, JobProgress.builder()
-                    .status("FAILED")
-                    .percentage(0)
-                    .message("크롤링 작업이 중단되었습니다.")
-                    .build());
-        }
+    /**
+     * 작업 상태 갱신 및 구독자에게 전달
+     */
+    private void updateProgress(String jobId, JobProgress progress) {
+        jobRegistry.update(jobId, progress);
+        progressBroadcaster.publish(jobId, progress);
     }
 
     /**
-     * 실제 크롤링 로직 (기존 메서드 유지)
+     * 크롤링 작업 실행
+     * - 동시 실행 제한은 작업 단위가 아니라 사이트 단위(SiteBulkhead)로 적용
+     * - 작업은 실제로 크롤링하는 사이트의 허용만 점유하므로 느린 사이트가 다른 사이트를 막지 않음
+     * @return 모든 사이트 크롤링과 캐시 갱신이 끝나면 완료되는 Future (입장 제어 자리 반납 시점)
      */
-    public void crawlAllSitesInParallel(String playerName, String jobId) {
+    public CompletableFuture<Void> runCrawlingJob(String playerName, String jobId) {
+        log.info("크롤링 작업 시작: '{}', Job ID: {}", playerName, jobId);
+        updateProgress(jobId, JobProgress.builder()
+                .status("IN_PROGRESS")
+                .percentage(0)
+                .message("크롤링 준비 중...")
+                .build());
+
+        return crawlAllSitesInParallel(playerName, jobId);
+    }
+
+    /**
+     * 실제 크롤링 로직
+     * @return 모든 사이트 크롤링과 캐시 갱신이 끝나면 완료되는 Future
+     */
+    public CompletableFuture<Void> crawlAllSitesInParallel(String playerName, String jobId) {
         log.info("비동기 병렬 크롤링 시작: '{}', Job ID: {}", playerName, jobId);
         Player player = playerRepository.findByName(playerName)
                 .orElseGet(() -> playerRepository.save(Player.builder().name(playerName).build()));
 
         AtomicInteger completedCount = new AtomicInteger(0);
         int totalCrawlers = crawlers.size();
+        List<String> skippedSites = new CopyOnWriteArrayList<>();
+        List<String> failedSites = new CopyOnWriteArrayList<>();
+        List<String> succeededSites = new CopyOnWriteArrayList<>();
 
         if (totalCrawlers == 0) {
-            jobStatus.put(jobId, JobProgress.builder()
+            updateProgress(jobId, JobProgress.builder()
                     .status("COMPLETED")
                     .percentage(100)
                     .message("완료되었습니다.")
                     .build());
             log.info("크롤링 대상 사이트가 없습니다: '{}', Job ID: {}", playerName, jobId);
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
         List<CompletableFuture<Void>> futures = crawlers.stream()
                 .map(crawler -> {
                     String message = String.format("%s 데이터 수집 중...", crawler.getSiteName());
                     int percentage = completedCount.get() * 100 / totalCrawlers;
-                    jobStatus.put(jobId, JobProgress.builder()
+                    updateProgress(jobId, JobProgress.builder()
                             .status("IN_PROGRESS")
                             .percentage(percentage)
                             .message(message)
+                            .siteName(crawler.getSiteName())
                             .build());
 
                     return runSingleCrawlerAsync(crawler, player)
-                            .whenComplete((ignored, ex) -> {
+                            .thenAccept(outcome -> {
+                                if (outcome == SiteOutcome.SUCCESS) {
+                                    succeededSites.add(crawler.getSiteName());
+                                } else if (outcome == SiteOutcome.SKIPPED || outcome == SiteOutcome.REJECTED) {
+                                    skippedSites.add(crawler.getSiteName());
+                                } else {
+                                    failedSites.add(crawler.getSiteName());
+                                }
+
                                 int finished = completedCount.incrementAndGet();
                                 int finishedPercentage = finished * 100 / totalCrawlers;
-                                String finishedMessage = String.format("%s 데이터 수집 완료 (%d/%d)",
-                                        crawler.getSiteName(), finished, totalCrawlers);
-                                jobStatus.put(jobId, JobProgress.builder()
+                                String finishedMessage = String.format("%s %s (%d/%d)",
+                                        crawler.getSiteName(), outcome.getDescription(), finished, totalCrawlers);
+                                updateProgress(jobId, JobProgress.builder()
                                         .status("IN_PROGRESS")
                                         .percentage(finishedPercentage)
                                         .message(finishedMessage)
+                                        .siteName(crawler.getSiteName())
+                                        .skippedSites(List.copyOf(skippedSites))
+                                        .failedSites(List.copyOf(failedSites))
                                         .build());
                             });
                 })
                 .toList();
 
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
                 .whenComplete((ignored, ex) -> {
-                    jobStatus.put(jobId, JobProgress.builder()
-                            .status("COMPLETED")
-                            .percentage(100)
-                            .message("완료되었습니다.")
-                            .build());
-                    log.info("모든 비동기 병렬 크롤링 작업 완료: '{}', Job ID: {}", playerName, jobId);
-                    
-                    // 크롤링 완료 후 캐시 업데이트
+                    // 크롤링 완료 후 캐시 업데이트 (완료 상태를 받은 화면이 갱신된 수집 시각을 보도록 먼저 처리)
+                    boolean allSucceeded = succeededSites.size() == totalCrawlers;
                     try {
-                        int recordCount = player.getAwardRecords().size();
-                        String sitesScraped = crawlers.stream()
-                                .map(SiteCrawler::getSiteName)
-                                .collect(Collectors.joining(", "));
-                        updateCache(playerName, recordCount, sitesScraped);
+                        if (!succeededSites.isEmpty()) {
+                            // 비동기 스레드에서는 지연 로딩 컬렉션을 읽을 수 없으므로 건수 쿼리 사용
+                            int recordCount = (int) awardRecordRepository.countByPlayerId(player.getId());
+                            String sitesScraped = crawlers.stream()
+                                    .map(SiteCrawler::getSiteName)
+                                    .filter(succeededSites::contains)
+                                    .collect(Collectors.joining(", "));
+                            updateCache(playerName, recordCount, sitesScraped, allSucceeded);
+                            evictPlayerRecords(playerName);
+                        }
                     } catch (Exception e) {
                         log.error("캐시 업데이트 실패: {}", e.getMessage(), e);
                     }
+
+                    List<String> missingSites = new ArrayList<>(skippedSites);
+                    missingSites.addAll(failedSites);
+                    String message = "완료되었습니다.";
+                    if (succeededSites.isEmpty()) {
+                        message = "모든 사이트에서 기록을 수집하지 못했습니다. 잠시 후 다시 시도해주세요.";
+                    } else if (!allSucceeded) {
+                        message += " (수집하지 못한 사이트: " + String.join(", ", missingSites) + ")";
+                    }
+                    updateProgress(jobId, JobProgress.builder()
+                            .status(succeededSites.isEmpty() ? "FAILED" : "COMPLETED")
+                            .percentage(100)
+                            .message(message)
+                            .skippedSites(List.copyOf(skippedSites))
+                            .failedSites(List.copyOf(failedSites))
+                            .build());
+                    log.info("모든 비동기 병렬 크롤링 작업 완료: '{}', Job ID: {}, 제외: {}, 실패: {}",
+                            playerName, jobId, skippedSites, failedSites);
                 });
     }
 
-    public CompletableFuture<Void> runSingleCrawlerAsync(SiteCrawler crawler, Player player) {
-        return CompletableFuture.runAsync(() -> {
+    /**
+     * 사이트 하나를 비동기로 크롤링
+     * - Circuit이 열려 있으면 바로 SKIPPED
+     * - 사이트별 허용(Bulkhead)을 기다리다 대기열이 가득 차거나 대기 시간을 넘기면 REJECTED
+     * - 사이트별 제한 시간을 넘기면 작업 스레드를 인터럽트하고 TIMED_OUT
+     */
+    public CompletableFuture<SiteOutcome> runSingleCrawlerAsync(SiteCrawler crawler, Player player) {
+        String siteName = crawler.getSiteName();
+        if (!circuitBreaker.tryAcquire(siteName)) {
+            log.warn("[{}] 최근 연속 실패로 차단된 사이트이므로 건너뜁니다.", siteName);
+            return CompletableFuture.completedFuture(SiteOutcome.SKIPPED);
+        }
+
+        String siteKey = crawler.getSiteKey();
+        return siteBulkhead.acquire(siteKey)
+                .handle((ignored, ex) -> ex)
+                .thenCompose(ex -> {
+                    if (ex != null) {
+                        circuitBreaker.cancel(siteName);
+                        log.warn("[{}] 동시 크롤링 요청이 많아 이번 조회에서 제외합니다. ({})", siteName, ex.getMessage());
+                        return CompletableFuture.completedFuture(SiteOutcome.REJECTED);
+                    }
+                    try {
+                        return crawlWithTimeout(crawler, player);
+                    } catch (RejectedExecutionException e) {
+                        siteBulkhead.release(siteKey);
+                        circuitBreaker.cancel(siteName);
+                        log.warn("[{}] 크롤링 스레드 풀이 가득 차 이번 조회에서 제외합니다.", siteName);
+                        return CompletableFuture.completedFuture(SiteOutcome.REJECTED);
+                    }
+                });
+    }
+
+    /**
+     * 사이트 허용을 받은 상태에서 제한 시간 안에 크롤링
+     * - 허용은 제한 시간 초과 여부와 상관없이 작업 스레드가 실제로 끝날 때 반납
+     */
+    private CompletableFuture<SiteOutcome> crawlWithTimeout(SiteCrawler crawler, Player player) {
+        String siteName = crawler.getSiteName();
+        Duration timeout = circuitBreaker.timeoutFor(siteName);
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        AtomicBoolean timedOut = new AtomicBoolean(false);
+        long start = System.currentTimeMillis();
+
+        CompletableFuture<Void> task = CompletableFuture.runAsync(() -> {
             try {
-                log.info("[{}] 사이트 크롤링 시작", crawler.getSiteName());
+                // 스레드 풀 대기열에 있는 동안 제한 시간이 지났으면 크롤링하지 않음 (결과는 이미 TIMED_OUT으로 처리됨)
+                synchronized (worker) {
+                    if (timedOut.get()) {
+                        log.warn("[{}] 제한 시간이 지나 대기 중이던 크롤링을 실행하지 않습니다.", siteName);
+                        return;
+                    }
+                    worker.set(Thread.currentThread());
+                }
+                log.info("[{}] 사이트 크롤링 시작 (제한 시간 {}초)", siteName, timeout.toSeconds());
                 crawler.scrape(player.getName());
-                log.info("[{}] 사이트 크롤링 완료", crawler.getSiteName());
+                log.info("[{}] 사이트 크롤링 완료", siteName);
             } catch (Exception e) {
-                log.error("[{}] 사이트 크롤링 중 오류 발생: {}", crawler.getSiteName(), e.getMessage(), e);
+                throw new CompletionException(e);
+            } finally {
+                // 제한 시간 초과로 인터럽트된 경우, 스레드 풀로 돌아가기 전에 인터럽트 상태 정리
+                synchronized (worker) {
+                    worker.set(null);
+                    Thread.interrupted();
+                }
+                siteBulkhead.release(crawler.getSiteKey());
             }
         }, crawlerTaskExecutor);
+
+        return task.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((ignored, ex) -> {
+                    long elapsed = System.currentTimeMillis() - start;
+                    if (ex == null) {
+                        circuitBreaker.recordSuccess(siteName, elapsed);
+                        return SiteOutcome.SUCCESS;
+                    }
+
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    circuitBreaker.recordFailure(siteName, cause);
+                    if (cause instanceof TimeoutException) {
+                        synchronized (worker) {
+                            timedOut.set(true);
+                            Thread thread = worker.get();
+                            if (thread != null) {
+                                thread.interrupt();
+                            }
+                        }
+                        log.error("[{}] 제한 시간({}초) 초과로 크롤링을 중단합니다.", siteName, timeout.toSeconds());
+                        return SiteOutcome.TIMED_OUT;
+                    }
+                    log.error("[{}] 사이트 크롤링 중 오류 발생: {}", siteName, cause.getMessage(), cause);
+                    return SiteOutcome.FAILED;
+                });
     }
     
     /**
-     * 캐싱된 선수 기록 조회 메서드
-     * - 30분 동안 캐시 유지
-     * - 캐시가 있으면 크롤링하지 않고 즉시 반환
+     * 선수 기록 캐시 삭제 (L1, L2 및 다른 노드의 L1까지)
      */
-    @Cacheable(value = CacheConfig.PLAYER_RECORDS_CACHE, key = "#playerName")
-    public String getCachedPlayerRecords(String playerName) {
-        log.info("캐시 미스: '{}' - 크롤링 필요", playerName);
-        // 이 메서드는 캐시가 없을 때만 호출됨
-        // 실제 크롤링은 startCrawlingJob을 통해 수행
-        return null;
+    private void evictPlayerRecords(String playerName) {
+        Cache cache = cacheManager.getCache(CacheConfig.PLAYER_RECORDS_CACHE);
+        if (cache != null) {
+            cache.evict(playerName);
+        }
     }
-    
+
     /**
      * 크롤링 완료 후 캐시 업데이트
+     * @param sitesScraped 이번에 수집에 성공한 사이트
+     * @param complete 모든 사이트를 수집했는지 (아니면 수집 시각과 만료 시각을 갱신하지 않음)
      */
-    private void updateCache(String playerName, int recordCount, String sitesScraped) {
+    private void updateCache(String playerName, int recordCount, String sitesScraped, boolean complete) {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime expiresAt = now.plusMinutes(cacheDurationMinutes);
 
         Optional<CrawlingCache> existingCache = crawlingCacheRepository.findByPlayerName(playerName);
-        
+
+        if (!complete) {
+            // 일부 사이트만 수집한 경우 수집 시각과 만료 시각은 그대로 두어 다음 조회(소프트 TTL)나 미리 크롤링에서 다시 시도
+            existingCache.ifPresent(cache -> {
+                cache.recordPartialCrawl(recordCount, sitesScraped);
+                crawlingCacheRepository.save(cache);
+            });
+            log.info("'{}' 선수 일부 사이트만 수집되어 수집 시각을 갱신하지 않습니다. (수집한 사이트: {})", playerName, sitesScraped);
+            return;
+        }
+
         if (existingCache.isPresent()) {
             // 기존 캐시 갱신
             CrawlingCache cache = existingCache.get();
@@ -279,4 +422,25 @@ public class CrawlerService {
             log.info("'{}' 선수 새 캐시 생성 완료. 만료시간: {}", playerName, expiresAt);
         }
     }
-}
+
+    /**
+     * 사이트 하나의 크롤링 결과
+     */
+    public enum SiteOutcome {
+        SUCCESS("데이터 수집 완료"),
+        FAILED("데이터 수집 실패"),
+        TIMED_OUT("응답 지연으로 수집 중단"),
+        SKIPPED("장애로 이번 조회에서 제외"),
+        REJECTED("요청이 많아 이번 조회에서 제외");
+
+        private final String description;
+
+        SiteOutcome(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.maniasin.pingpongleague.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maniasin.pingpongleague.domain.Match;
+import com.maniasin.pingpongleague.dto.GroupStandingDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조별 순위 저장소
+ * - 조마다 마지막으로 계산한 순위표를 보관하여, 조회 때마다 조 전체 경기로 순위를 다시 계산하지 않음
+ * - 경기 결과가 입력되면 그 경기의 변화분만 반영하고, 두 선수(팀)의 이전/새 점수 동점자 그룹만 다시 정렬
+ * - 변화분은 트랜잭션 커밋 후에 반영 (롤백된 결과가 순위에 남지 않도록)
+ * - 노드 로컬 메모리에 보관 (H2 파일 DB를 쓰는 단일 서버 구성 기준), 오래 조회되지 않은 조는 자동 만료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupStandingsStore {
+
+    private static final long MAX_GROUPS = 2_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(6);
+
+    private final RankingService rankingService;
+
+    private final Cache<Long, GroupStandings> standingsByGroup = Caffeine.newBuilder()
+            .maximumSize(MAX_GROUPS)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+
+    // 커밋된 경기 결과 반영 횟수 - 경기 조회 이후에 반영된 결과가 있으면 그 조회로 계산한 순위표는 저장하지 않음
+    private final AtomicLong appliedResults = new AtomicLong();
+
+    /**
+     * 경기 목록을 조회하기 직전에 호출하여 받은 값을 build()에 전달
+     */
+    public long stamp() {
+        return appliedResults.get();
+    }
+
+    /**
+     * 저장된 조 순위표 (없거나 순위 규칙이 다르면 null)
+     * - 반환 목록과 항목은 다른 요청과 공유되므로 읽기 전용으로만 사용
+     */
+    public List<GroupStandingDto> find(Long groupId, RankingRule rule) {
+        GroupStandings cached = standingsByGroup.getIfPresent(groupId);
+        return cached != null && cached.rule.equals(rule) ? cached.standings : null;
+    }
+
+    /**
+     * 조의 전체 경기 결과로 순위표를 계산하여 저장 (여러 스레드에서 동시에 호출 가능)
+     * @param results 조의 전체 경기 (stamp() 호출 이후에 조회한 것)
+     */
+    public List<GroupStandingDto> build(Long groupId, List<RankingService.MatchResult> results,
+                                        RankingRule rule, long stamp) {
+        StandingsTable table = StandingsTable.of(results);
+        int[] order = rule.rank(table);
+        GroupStandingDto[] rowArray = table.toRows();
+        Map<Long, GroupStandingDto> rows = new LinkedHashMap<>();
+        for (GroupStandingDto row : rowArray) {
+            rows.put(row.getPlayerId(), row);
+        }
+        List<GroupStandingDto> standings = Collections.unmodifiableList(StandingsTable.inRankOrder(rowArray, order));
+        HeadToHeadIndex headToHead = HeadToHeadIndex.of(results);
+        GroupStandings built = new GroupStandings(rule, headToHead, rows, standings);
+
+        standingsByGroup.asMap().compute(groupId, (id, existing) -> {
+            if (existing != null && existing.rule.equals(rule)) {
+                return existing;
+            }
+            return appliedResults.get() == stamp ? built : existing;
+        });
+        return standings;
+    }
+
+    /**
+     * 경기 결과 입력 시 호출 - 현재 트랜잭션이 커밋되면 해당 조 순위표에 반영
+     */
+    public void recordResult(Match match) {
+        if (match.getLeagueGroup() == null) {
+            return; // 본선 경기는 조 순위와 무관
+        }
+        Long groupId = match.getLeagueGroup().getId();
+        RankingService.MatchResult result = RankingService.MatchResult.from(match);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(groupId, result);
+                }
+            });
+        } else {
+            apply(groupId, result);
+        }
+    }
+
+    private void apply(Long groupId, RankingService.MatchResult result) {
+        appliedResults.incrementAndGet();
+        try {
+            standingsByGroup.asMap().computeIfPresent(groupId, (id, standings) -> standings.apply(result, rankingService));
+        } catch (RuntimeException e) {
+            // 반영에 실패하면 저장된 순위표를 버리고 다음 조회에서 다시 계산
+            log.warn("조 순위 반영 실패 - 다음 조회 시 다시 계산합니다. groupId={}, matchId={}: {}", groupId, result.getMatchId(), e.getMessage());
+            standingsByGroup.invalidate(groupId);
+        }
+    }
+
+    /**
+     * 한 조의 순위표 (변경하지 않고, 결과 반영 시 새 객체를 만듦)
+     * - 승자승 색인만은 결과 반영 시 그대로 갱신하여 다음 순위표가 이어받음 (반영은 조마다 한 번에 하나씩만 실행됨)
+     */
+    private static class GroupStandings {
+        private final RankingRule rule;
+        private final HeadToHeadIndex headToHead;
+        // 선수(팀)별 전적 - 순서가 동점자 정렬 전의 기본 순서
+        private final Map<Long, GroupStandingDto> rows;
+        private final List<GroupStandingDto> standings;
+
+        private GroupStandings(RankingRule rule, HeadToHeadIndex headToHead,
+                               Map<Long, GroupStandingDto> rows, List<GroupStandingDto> standings) {
+            this.rule = rule;
+            this.headToHead = headToHead;
+            this.rows = rows;
+            this.standings = standings;
+        }
+
+        /**
+         * 경기 결과 한 건을 반영한 다음 순위표 (null이면 저장된 순위표를 버리고 다시 계산)
+         */
+        GroupStandings apply(RankingService.MatchResult result, RankingService rankingService) {
+            RankingService.MatchResult stored = result.getSide1Id() == null || result.getSide2Id() == null
+                    ? null
+                    : headToHead.get(result.getSide1Id(), result.getSide2Id());
+            if (stored == null || !Objects.equals(stored.getMatchId(), result.getMatchId())) {
+                return null; // 저장 이후 추가되었거나 색인과 다른 경기
+            }
+            if (stored.isCompleted()) {
+                return this; // 순위표를 만들 때 이미 포함된 결과
+            }
+
+            Map<Long, GroupStandingDto> nextRows = new LinkedHashMap<>();
+            rows.forEach((id, row) -> nextRows.put(id, row.copy()));
+            GroupStandingDto side1 = nextRows.get(result.getSide1Id());
+            GroupStandingDto side2 = nextRows.get(result.getSide2Id());
+            if (side1 == null || side2 == null) {
+                return null;
+            }
+
+            // 점수가 바뀌는 두 선수의 이전/새 점수 그룹만 다시 정렬 대상
+            Set<Integer> affectedScores = new HashSet<>();
+            affectedScores.add(rule.score(side1));
+            affectedScores.add(rule.score(side2));
+            rankingService.recordResult(nextRows, result);
+            affectedScores.add(rule.score(side1));
+            affectedScores.add(rule.score(side2));
+
+            headToHead.put(result);
+
+            SortedMap<Integer, List<GroupStandingDto>> groupByScore = new TreeMap<>(Comparator.reverseOrder());
+            // 다른 그룹은 구성원과 그 사이 경기가 그대로이므로 이전 순서 유지
+            for (GroupStandingDto previous : standings) {
+                GroupStandingDto row = nextRows.get(previous.getPlayerId());
+                int score = rule.score(row);
+                if (!affectedScores.contains(score)) {
+                    groupByScore.computeIfAbsent(score, key -> new ArrayList<>()).add(row);
+                }
+            }
+            // 대상 그룹은 전체 계산과 같은 기본 순서로 모은 뒤 다시 정렬
+            for (GroupStandingDto row : nextRows.values()) {
+                int score = rule.score(row);
+                if (affectedScores.contains(score)) {
+                    groupByScore.computeIfAbsent(score, key -> new ArrayList<>()).add(row);
+                }
+            }
+            for (Integer score : affectedScores) {
+                List<GroupStandingDto> tiedPlayers = groupByScore.get(score);
+                if (tiedPlayers != null) {
+                    rule.sortTied(tiedPlayers, headToHead);
+                }
+            }
+
+            List<GroupStandingDto> nextStandings = Collections.unmodifiableList(rankingService.assignRanks(groupByScore));
+            return new GroupStandings(rule, headToHead, nextRows, nextStandings);
+        }
+    }
+}
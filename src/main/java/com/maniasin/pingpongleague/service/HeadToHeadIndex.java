@@ -0,0 +1,122 @@
+package com.maniasin.pingpongleague.service;
+
+import java.util.List;
+
+/**
+ * 조 내 두 선수(팀) 사이 경기 색인 - 동점자 처리(승자승, 동점자 간 세트 득실)용
+ * - (선수 A, 선수 B) 쌍을 long 하나로 묶은 키로 찾는 open addressing 맵 (Long/쌍 객체를 만들지 않음)
+ * - 순위 계산 한 번에 한 번만 만들고, 동점자 그룹마다 전체 경기를 다시 훑지 않음
+ * - 쌍마다 경기 ID가 가장 작은 경기 하나를 보관 (조별 풀리그는 두 선수가 한 번씩만 만남)
+ * - 단체전이면 팀 ID 쌍, 개인전이면 선수 ID 쌍
+ */
+public final class HeadToHeadIndex {
+
+    private static final long EMPTY = 0L;
+    private static final long MAX_ID = 0xFFFF_FFFFL;
+
+    private long[] keys;
+    private RankingService.MatchResult[] values;
+    private int size;
+
+    private HeadToHeadIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        keys = new long[capacity];
+        values = new RankingService.MatchResult[capacity];
+    }
+
+    /**
+     * @param results 경기 ID 순으로 정렬된 조 경기
+     */
+    public static HeadToHeadIndex of(List<RankingService.MatchResult> results) {
+        HeadToHeadIndex index = new HeadToHeadIndex(results.size());
+        for (RankingService.MatchResult result : results) {
+            if (result.getSide1Id() == null || result.getSide2Id() == null) {
+                continue;
+            }
+            long key = pairKey(result.getSide1Id(), result.getSide2Id());
+            if (index.find(key) < 0) {
+                index.insert(key, result);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 두 선수(팀) 사이 경기 (순서 무관, 없으면 null)
+     */
+    public RankingService.MatchResult get(Long competitorA, Long competitorB) {
+        int slot = find(pairKey(competitorA, competitorB));
+        return slot < 0 ? null : values[slot];
+    }
+
+    /**
+     * 같은 두 선수(팀) 사이 경기를 새 결과로 교체 (없으면 추가)
+     */
+    public void put(RankingService.MatchResult result) {
+        long key = pairKey(result.getSide1Id(), result.getSide2Id());
+        int slot = find(key);
+        if (slot >= 0) {
+            values[slot] = result;
+        } else {
+            insert(key, result);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 작은 ID를 상위 32비트에 두어 (A, B)와 (B, A)가 같은 키가 되도록 함
+    private static long pairKey(Long competitorA, Long competitorB) {
+        long a = competitorA;
+        long b = competitorB;
+        long low = Math.min(a, b);
+        long high = Math.max(a, b);
+        if (low <= 0 || high > MAX_ID) {
+            throw new IllegalStateException("승자승 색인에 사용할 수 없는 ID입니다: " + a + ", " + b);
+        }
+        return (low << 32) | high;
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(long key, RankingService.MatchResult result) {
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = result;
+        size++;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        RankingService.MatchResult[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new RankingService.MatchResult[oldKeys.length * 2];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,110 @@
+package com.maniasin.pingpongleague.service;
+
+import com.maniasin.pingpongleague.config.CrawlerConfig;
+import com.maniasin.pingpongleague.dto.JobProgress;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * 크롤링 작업 진행 상황을 SSE(Server-Sent Events)로 전달
+ * - 하나의 작업(jobId)에 여러 구독자 허용 (중복 요청이 같은 작업을 공유하는 경우)
+ * - 작업이 끝나면(COMPLETED/FAILED) 마지막 이벤트를 보내고 연결 종료
+ * - 없거나 만료된 작업(UNKNOWN)은 구독 즉시 그 상태를 보내고 연결 종료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobProgressBroadcaster {
+
+    private static final String EVENT_NAME = "progress";
+
+    private final CrawlerConfig crawlerConfig;
+
+    private final Map<String, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 작업 구독
+     * @param currentProgress 구독 직후 보낼 현재 상태 (구독 등록 이후에 조회하여 이벤트 유실 방지)
+     */
+    public SseEmitter subscribe(String jobId, Supplier<JobProgress> currentProgress) {
+        SseEmitter emitter = new SseEmitter(Duration.ofSeconds(crawlerConfig.getSseTimeoutSeconds()).toMillis());
+        // remove()가 빈 목록을 맵에서 지우므로 목록 생성과 추가를 한 번에 처리 (지워진 목록에 추가되지 않도록)
+        subscribers.compute(jobId, (key, emitters) -> {
+            List<SseEmitter> list = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            return list;
+        });
+
+        emitter.onCompletion(() -> remove(jobId, emitter));
+        emitter.onTimeout(() -> {
+            remove(jobId, emitter);
+            emitter.complete();
+        });
+        emitter.onError(e -> remove(jobId, emitter));
+
+        JobProgress progress = currentProgress.get();
+        if ("UNKNOWN".equals(progress.getStatus())) {
+            // 더 이상 이벤트가 오지 않으므로 SSE 제한 시간까지 연결을 잡아두지 않음
+            remove(jobId, emitter);
+            if (send(emitter, progress)) {
+                emitter.complete();
+            }
+            return emitter;
+        }
+        if (send(emitter, progress) && progress.isFinished()) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    /**
+     * 작업의 모든 구독자에게 진행 상황 전달
+     */
+    public void publish(String jobId, JobProgress progress) {
+        List<SseEmitter> emitters = progress.isFinished() ? subscribers.remove(jobId) : subscribers.get(jobId);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            if (send(emitter, progress) && progress.isFinished()) {
+                emitter.complete();
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(List::size).sum();
+    }
+
+    private boolean send(SseEmitter emitter, JobProgress progress) {
+        // 여러 크롤러 스레드에서 동시에 상태를 보낼 수 있으므로 emitter 단위로 직렬화
+        synchronized (emitter) {
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).data(progress, MediaType.APPLICATION_JSON));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패 (클라이언트 연결 종료): {}", e.getMessage());
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+
+    private void remove(String jobId, SseEmitter emitter) {
+        subscribers.computeIfPresent(jobId, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -55,6 +55,10 @@ public class LeagueRoomService {
     // ... (기존 메소드들은 변경 없이 그대로 둡니다) ...
 
     public Long createLeagueRoom(String title, User owner, int maxParticipants, LeagueRoom.GameType gameType, LeagueRoom.MatchFormat matchFormat, LeagueRoom.RoundRobinRankingType roundRobinRankingType, LeagueRoom.TournamentType tournamentType, Integer teamSize, LeagueRoom.TeamMatchFormat teamMatchFormat, String location, String venueAddress, String matchDescription, String contactInfo, int playersPerGroup, int advancingPlayersPerGroup, String eventDate, String eventTime) {
+        return createLeagueRoom(title, owner, maxParticipants, gameType, matchFormat, roundRobinRankingType, null, tournamentType, teamSize, teamMatchFormat, location, venueAddress, matchDescription, contactInfo, playersPerGroup, advancingPlayersPerGroup, eventDate, eventTime);
+    }
+
+    public Long createLeagueRoom(String title, User owner, int maxParticipants, LeagueRoom.GameType gameType, LeagueRoom.MatchFormat matchFormat, LeagueRoom.RoundRobinRankingType roundRobinRankingType, List<LeagueRoom.TieBreaker> tieBreakers, LeagueRoom.TournamentType tournamentType, Integer teamSize, LeagueRoom.TeamMatchFormat teamMatchFormat, String location, String venueAddress, String matchDescription, String contactInfo, int playersPerGroup, int advancingPlayersPerGroup, String eventDate, String eventTime) {
         log.info("새로운 리그 방 생성을 시작합니다. title: {}", title);
 
         LocalDateTime eventDateTime = LocalDateTime.of(LocalDate.parse(eventDate), LocalTime.parse(eventTime));
@@ -93,6 +97,7 @@ public class LeagueRoomService {
                 .advancingPlayersPerGroup(advancingPlayersPerGroup)
                 .eventDateTime(eventDateTime)
                 .build();
+        leagueRoom.setTieBreakerChain(tieBreakers);
 
         log.debug("리그 방 엔티티 생성 완료. owner: {}", owner.getUsername());
 
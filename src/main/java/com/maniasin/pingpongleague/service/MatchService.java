@@ -35,6 +35,8 @@ public class MatchService {
     private final LeagueTeamRepository leagueTeamRepository;
     private final LeagueTeamMemberRepository leagueTeamMemberRepository;
     private final RankingService rankingService;
+    private final GroupStandingsStore groupStandingsStore;
+    private final RoomStandingsService roomStandingsService;
     private final UserRepository userRepository;
 
     public void generateGroupStageMatches(LeagueRoom leagueRoom) {
@@ -199,7 +201,9 @@ public class MatchService {
             match.setWinnerTeam(null);
         }
         match.setStatus(Match.MatchStatus.COMPLETED);
-        return matchRepository.save(match);
+        Match saved = matchRepository.save(match);
+        groupStandingsStore.recordResult(saved);
+        return saved;
     }
 
     public void bulkUpdateMatchResults(List<MatchResultDto> results) {
@@ -250,12 +254,9 @@ public class MatchService {
     public Map<String, List<User>> selectFinalistsByGroup(LeagueRoom leagueRoom) {
         log.info("본선 진출자 선발을 시작합니다. Room ID: {}", leagueRoom.getId());
 
-        List<Match> allMatches = matchRepository.findByLeagueRoomWithDetails(leagueRoom);
-        Map<String, List<Match>> groupedMatches = allMatches.stream()
-                .filter(match -> match.getLeagueGroup() != null)
-                .collect(Collectors.groupingBy(match -> match.getLeagueGroup().getGroupName()));
+        Map<String, RoomStandingsService.GroupStandings> groups = roomStandingsService.getRoomStandings(leagueRoom).getGroups();
 
-        if (groupedMatches.isEmpty()) {
+        if (groups.isEmpty()) {
             throw new IllegalStateException("순위를 계산할 예선 경기가 없습니다.");
         }
 
@@ -263,16 +264,9 @@ public class MatchService {
         int advancingPlayersCount = leagueRoom.getAdvancingPlayersPerGroup();
         log.info("설정된 조별 본선 진출 인원: {}", advancingPlayersCount);
 
-        List<String> sortedGroupNames = new ArrayList<>(groupedMatches.keySet());
-        Collections.sort(sortedGroupNames);
-
-        LeagueRoom.RoundRobinRankingType rankingType = leagueRoom.getRoundRobinRankingType() != null
-                ? leagueRoom.getRoundRobinRankingType()
-                : LeagueRoom.RoundRobinRankingType.POINTS;
-
-        for (String groupName : sortedGroupNames) {
-            List<Match> groupMatches = groupedMatches.get(groupName);
-            List<GroupStandingDto> standings = rankingService.calculateGroupStandings(groupMatches, rankingType);
+        for (RoomStandingsService.GroupStandings group : groups.values()) {
+            String groupName = group.getGroupName();
+            List<GroupStandingDto> standings = group.getStandings();
 
             log.info("{} 순위표 크기: {}", groupName, standings.size());
 
@@ -293,27 +287,18 @@ public class MatchService {
     public Map<String, List<LeagueTeam>> selectFinalTeamsByGroup(LeagueRoom leagueRoom) {
         log.info("본선 진출 팀 선발을 시작합니다. Room ID: {}", leagueRoom.getId());
 
-        List<Match> allMatches = matchRepository.findByLeagueRoomWithDetails(leagueRoom);
-        Map<String, List<Match>> groupedMatches = allMatches.stream()
-                .filter(match -> match.getLeagueGroup() != null)
-                .collect(Collectors.groupingBy(match -> match.getLeagueGroup().getGroupName()));
+        Map<String, RoomStandingsService.GroupStandings> groups = roomStandingsService.getRoomStandings(leagueRoom).getGroups();
 
-        if (groupedMatches.isEmpty()) {
+        if (groups.isEmpty()) {
             throw new IllegalStateException("순위를 계산할 예선 경기가 없습니다.");
         }
 
         Map<String, List<LeagueTeam>> finalistsByGroup = new LinkedHashMap<>();
         int advancingTeamsCount = leagueRoom.getAdvancingPlayersPerGroup();
-        LeagueRoom.RoundRobinRankingType rankingType = leagueRoom.getRoundRobinRankingType() != null
-                ? leagueRoom.getRoundRobinRankingType()
-                : LeagueRoom.RoundRobinRankingType.POINTS;
 
-        List<String> sortedGroupNames = new ArrayList<>(groupedMatches.keySet());
-        Collections.sort(sortedGroupNames);
-
-        for (String groupName : sortedGroupNames) {
-            List<Match> groupMatches = groupedMatches.get(groupName);
-            List<GroupStandingDto> standings = rankingService.calculateGroupStandings(groupMatches, rankingType);
+        for (RoomStandingsService.GroupStandings group : groups.values()) {
+            String groupName = group.getGroupName();
+            List<GroupStandingDto> standings = group.getStandings();
 
             List<LeagueTeam> groupFinalists = new ArrayList<>();
             for (int i = 0; i < advancingTeamsCount && i < standings.size(); i++) {
@@ -775,11 +760,7 @@ public class MatchService {
                     .filter(m -> m.getLeagueGroup() != null)
                     .toList();
 
-            LeagueRoom.RoundRobinRankingType rankingType = leagueRoom.getRoundRobinRankingType() != null
-                    ? leagueRoom.getRoundRobinRankingType()
-                    : LeagueRoom.RoundRobinRankingType.POINTS;
-
-            List<GroupStandingDto> standings = rankingService.calculateGroupStandings(groupMatches, rankingType);
+            List<GroupStandingDto> standings = rankingService.calculateGroupStandings(groupMatches, RankingRule.of(leagueRoom));
             List<String> fullRankings = standings.stream()
                     .map(s -> String.format("%d위 %s (승 %d / 패 %d / 승점 %d)", s.getRank(), s.getPlayerName(), s.getWins(), s.getLosses(), s.getPoints()))
                     .toList();
@@ -802,7 +783,8 @@ public class MatchService {
      */
     @Transactional(readOnly = true)
     public TournamentDataDto getTournamentData(LeagueRoom leagueRoom) {
-        List<Match> allMatches = matchRepository.findByLeagueRoomWithDetails(leagueRoom);
+        RoomStandingsService.RoomStandings roomStandings = roomStandingsService.getRoomStandings(leagueRoom);
+        List<Match> allMatches = roomStandings.getMatches();
         List<Match> mainTournamentMatches = allMatches.stream()
                 .filter(m -> m.getLeagueGroup() == null)
                 .collect(Collectors.toList());
@@ -814,7 +796,7 @@ public class MatchService {
         Map<Integer, List<Match>> rounds = mainTournamentMatches.stream()
                 .collect(Collectors.groupingBy(Match::getRoundNumber, TreeMap::new, Collectors.toList()));
 
-        Map<Long, String> groupRankLabels = buildGroupRankLabels(leagueRoom, allMatches);
+        Map<Long, String> groupRankLabels = buildGroupRankLabels(roomStandings);
 
         Map<String, Object> standardData = buildStandardTournamentData(rounds);
         Map<String, Object> splitData = buildSplitTournamentData(rounds, groupRankLabels);
@@ -822,26 +804,15 @@ public class MatchService {
         return new TournamentDataDto(standardData, splitData);
     }
 
-    private Map<Long, String> buildGroupRankLabels(LeagueRoom leagueRoom, List<Match> allMatches) {
-        Map<String, List<Match>> groupedMatches = allMatches.stream()
-                .filter(match -> match.getLeagueGroup() != null)
-                .collect(Collectors.groupingBy(match -> match.getLeagueGroup().getGroupName()));
-
-        if (groupedMatches.isEmpty()) {
+    private Map<Long, String> buildGroupRankLabels(RoomStandingsService.RoomStandings roomStandings) {
+        if (roomStandings.getGroups().isEmpty()) {
             return Collections.emptyMap();
         }
 
         Map<Long, String> labels = new HashMap<>();
-        List<String> sortedGroupNames = new ArrayList<>(groupedMatches.keySet());
-        Collections.sort(sortedGroupNames);
-
-        LeagueRoom.RoundRobinRankingType rankingType = leagueRoom.getRoundRobinRankingType() != null
-                ? leagueRoom.getRoundRobinRankingType()
-                : LeagueRoom.RoundRobinRankingType.POINTS;
-
-        for (String groupName : sortedGroupNames) {
-            List<GroupStandingDto> standings = rankingService.calculateGroupStandings(groupedMatches.get(groupName), rankingType);
-            for (GroupStandingDto standing : standings) {
+        for (RoomStandingsService.GroupStandings group : roomStandings.getGroups().values()) {
+            String groupName = group.getGroupName();
+            for (GroupStandingDto standing : group.getStandings()) {
                 if (standing.getRank() > 0) {
                     labels.put(standing.getPlayerId(), String.format("%s %d위", groupName, standing.getRank()));
                 }
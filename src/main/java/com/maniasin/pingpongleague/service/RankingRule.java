@@ -0,0 +1,298 @@
+package com.maniasin.pingpongleague.service;
+
+import com.maniasin.pingpongleague.domain.LeagueRoom;
+import com.maniasin.pingpongleague.dto.GroupStandingDto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조별리그 순위 규칙 (1차 기준 + 동점자 처리 순서)
+ * - 방 설정(승점/승수 방식, 동점자 처리 순서)을 한 번 컴파일하여 단계 배열로 만들고, 같은 설정의 방끼리 공유
+ * - 전적 표(StandingsTable)의 기본형 배열 위에서 단계마다 키 배열을 계산하여 비교 (단계마다 경기 목록을 다시 훑지 않고 객체를 만들지 않음)
+ * - 한 단계에서 같은 값인 선수들만 다음 단계로 넘어가며, 순위를 가른 단계의 이름을 비고에 기록
+ */
+public final class RankingRule {
+
+    private static final Map<String, RankingRule> COMPILED = new ConcurrentHashMap<>();
+
+    private final LeagueRoom.RoundRobinRankingType rankingType;
+    private final List<LeagueRoom.TieBreaker> tieBreakers;
+    private final Stage[] stages;
+
+    private RankingRule(LeagueRoom.RoundRobinRankingType rankingType, List<LeagueRoom.TieBreaker> tieBreakers) {
+        this.rankingType = rankingType;
+        this.tieBreakers = tieBreakers;
+        this.stages = new Stage[tieBreakers.size()];
+        for (int i = 0; i < stages.length; i++) {
+            stages[i] = compile(tieBreakers.get(i));
+        }
+    }
+
+    public static RankingRule of(LeagueRoom leagueRoom) {
+        return of(leagueRoom.getRoundRobinRankingType(), leagueRoom.getTieBreakerChain());
+    }
+
+    public static RankingRule of(LeagueRoom.RoundRobinRankingType rankingType, List<LeagueRoom.TieBreaker> tieBreakers) {
+        LeagueRoom.RoundRobinRankingType resolvedType = rankingType != null ? rankingType : LeagueRoom.RoundRobinRankingType.POINTS;
+        List<LeagueRoom.TieBreaker> requested = tieBreakers == null
+                ? List.of()
+                : tieBreakers.stream().filter(Objects::nonNull).distinct().toList();
+        List<LeagueRoom.TieBreaker> chain = requested.isEmpty() ? LeagueRoom.DEFAULT_TIE_BREAKERS : requested;
+        return COMPILED.computeIfAbsent(resolvedType + ":" + chain, key -> new RankingRule(resolvedType, chain));
+    }
+
+    public LeagueRoom.RoundRobinRankingType getRankingType() {
+        return rankingType;
+    }
+
+    public List<LeagueRoom.TieBreaker> getTieBreakers() {
+        return tieBreakers;
+    }
+
+    /**
+     * 1차 기준 점수 (승점 또는 승수)
+     */
+    public int score(GroupStandingDto standing) {
+        return rankingType == LeagueRoom.RoundRobinRankingType.WINS ? standing.getWins() : standing.getPoints();
+    }
+
+    /**
+     * 전적 표 전체의 순위 순서 (1차 기준으로 묶은 뒤 그룹마다 동점자 처리)
+     * - 동점자 처리 결과(비고, 동점자 간 세트 득실)는 전적 표에 기록
+     * @return 1위부터의 선수(팀) 번호
+     */
+    public int[] rank(StandingsTable table) {
+        table.resetTieBreakers();
+        int[] order = new int[table.size];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+            table.key[i] = rankingType == LeagueRoom.RoundRobinRankingType.WINS ? table.wins[i] : table.points[i];
+        }
+        sortDescending(table.key, order, 0, order.length);
+        forEachRun(table, order, 0, order.length, 0);
+        return order;
+    }
+
+    /**
+     * 1차 기준이 같은 선수(팀)들을 동점자 처리 순서대로 정렬
+     * - 이전 계산의 동점자 비고/전적은 지우고 다시 계산 (순위 저장소에서 일부 그룹만 다시 정렬할 때도 같은 결과가 되도록)
+     */
+    public void sortTied(List<GroupStandingDto> tiedPlayers, HeadToHeadIndex headToHead) {
+        tiedPlayers.forEach(GroupStandingDto::resetTieBreaker);
+        if (tiedPlayers.size() <= 1) {
+            return; // 동점자가 아니면 정렬 불필요
+        }
+
+        StandingsTable table = StandingsTable.ofTied(tiedPlayers, headToHead);
+        int[] order = rank(table);
+
+        GroupStandingDto[] sorted = new GroupStandingDto[order.length];
+        for (int i = 0; i < order.length; i++) {
+            GroupStandingDto standing = tiedPlayers.get(order[i]);
+            standing.setTieBreakerGamesWon(table.tieBreakerSetsFor[order[i]]);
+            standing.setTieBreakerGamesLost(table.tieBreakerSetsAgainst[order[i]]);
+            standing.setRemarks(table.remarks[order[i]]);
+            sorted[i] = standing;
+        }
+        for (int i = 0; i < sorted.length; i++) {
+            tiedPlayers.set(i, sorted[i]);
+        }
+    }
+
+    // order[from, to) 구간을 stageIndex 단계로 정렬하고, 같은 값인 구간만 다음 단계로
+    private void refine(StandingsTable table, int[] order, int from, int to, int stageIndex) {
+        if (to - from <= 1 || stageIndex >= stages.length) {
+            return;
+        }
+        Stage stage = stages[stageIndex];
+        stage.computeKeys(table, order, from, to);
+        sortDescending(table.key, order, from, to);
+
+        if (table.key[order[from]] != table.key[order[to - 1]]) {
+            stage.markDecided(table, order, from, to);
+        }
+        forEachRun(table, order, from, to, stageIndex + 1);
+    }
+
+    // 키가 같은 구간마다 다음 단계 적용 (다음 단계는 그 구간의 키만 덮어쓰므로 뒤 구간 경계는 그대로)
+    private void forEachRun(StandingsTable table, int[] order, int from, int to, int nextStage) {
+        double[] key = table.key;
+        int start = from;
+        while (start < to) {
+            double value = key[order[start]];
+            int end = start + 1;
+            while (end < to && key[order[end]] == value) {
+                end++;
+            }
+            refine(table, order, start, end, nextStage);
+            start = end;
+        }
+    }
+
+    // 같은 키끼리는 기존 순서를 유지하는 삽입 정렬 (조 인원 규모에서는 충분)
+    private static void sortDescending(double[] key, int[] order, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int current = order[i];
+            int j = i - 1;
+            while (j >= from && key[order[j]] < key[current]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = current;
+        }
+    }
+
+    private static Stage compile(LeagueRoom.TieBreaker tieBreaker) {
+        return switch (tieBreaker) {
+            case HEAD_TO_HEAD -> new HeadToHeadStage();
+            case TIED_SET_RATIO -> new TiedSetRatioStage();
+            case SET_DIFFERENCE -> new LabeledStage("세트 득실차") {
+                @Override
+                void computeKeys(StandingsTable table, int[] order, int from, int to) {
+                    for (int i = from; i < to; i++) {
+                        int p = order[i];
+                        table.key[p] = table.setsFor[p] - table.setsAgainst[p];
+                    }
+                }
+            };
+            case TOTAL_SET_RATIO -> new LabeledStage("세트 득실률") {
+                @Override
+                void computeKeys(StandingsTable table, int[] order, int from, int to) {
+                    for (int i = from; i < to; i++) {
+                        int p = order[i];
+                        table.key[p] = ratio(table.setsFor[p], table.setsAgainst[p]);
+                    }
+                }
+            };
+            case LOTS -> new LabeledStage("추첨") {
+                // 조회할 때마다 순서가 바뀌지 않도록 선수(팀) ID로 정해지는 난수 사용
+                @Override
+                void computeKeys(StandingsTable table, int[] order, int from, int to) {
+                    for (int i = from; i < to; i++) {
+                        int p = order[i];
+                        table.key[p] = mix(table.ids[p]);
+                    }
+                }
+            };
+        };
+    }
+
+    private static double ratio(int won, int lost) {
+        if (lost == 0) {
+            return won > 0 ? Double.POSITIVE_INFINITY : 0;
+        }
+        return (double) won / lost;
+    }
+
+    private static double mix(long id) {
+        long h = id * 0x9E37_79B9_7F4A_7C15L;
+        h ^= h >>> 31;
+        h *= 0xBF58_476D_1CE4_E5B9L;
+        h ^= h >>> 29;
+        return (double) (h >>> 11);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RankingRule other)) return false;
+        return rankingType == other.rankingType && tieBreakers.equals(other.tieBreakers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * rankingType.hashCode() + tieBreakers.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return rankingType + " " + tieBreakers;
+    }
+
+    private abstract static class Stage {
+        // order[from, to) 선수들의 비교 키를 table.key에 기록 (클수록 앞 순위)
+        abstract void computeKeys(StandingsTable table, int[] order, int from, int to);
+
+        // 이 단계에서 순위가 갈린 구간의 비고 기록
+        abstract void markDecided(StandingsTable table, int[] order, int from, int to);
+    }
+
+    private abstract static class LabeledStage extends Stage {
+        private final String label;
+
+        LabeledStage(String label) {
+            this.label = label;
+        }
+
+        @Override
+        void markDecided(StandingsTable table, int[] order, int from, int to) {
+            for (int i = from; i < to; i++) {
+                table.remarks[order[i]] = label;
+            }
+        }
+    }
+
+    /**
+     * 승자승 - 2명이 동점일 때 맞대결 승자 우선 (3명 이상이면 다음 단계로)
+     */
+    private static final class HeadToHeadStage extends Stage {
+        @Override
+        void computeKeys(StandingsTable table, int[] order, int from, int to) {
+            for (int i = from; i < to; i++) {
+                table.key[order[i]] = 0;
+            }
+            if (to - from != 2) {
+                return;
+            }
+            int winner = table.pairWinner[order[from] * table.size + order[from + 1]];
+            if (winner >= 0) {
+                table.key[winner] = 1;
+            }
+        }
+
+        @Override
+        void markDecided(StandingsTable table, int[] order, int from, int to) {
+            int winner = order[from];
+            int loser = order[from + 1];
+            table.remarks[winner] = table.names[loser] + " 상대 승자승";
+        }
+    }
+
+    /**
+     * 동점자 간 세트 득실률 - 동점자끼리의 경기만으로 계산 (승자가 딴 세트를 승자 득, 패자 실로 집계)
+     */
+    private static final class TiedSetRatioStage extends LabeledStage {
+        TiedSetRatioStage() {
+            super("동점자 간 세트 득실");
+        }
+
+        @Override
+        void computeKeys(StandingsTable table, int[] order, int from, int to) {
+            for (int i = from; i < to; i++) {
+                table.tieBreakerSetsFor[order[i]] = 0;
+                table.tieBreakerSetsAgainst[order[i]] = 0;
+            }
+            for (int i = from; i < to; i++) {
+                int p = order[i];
+                for (int j = i + 1; j < to; j++) {
+                    int q = order[j];
+                    int winner = table.pairWinner[p * table.size + q];
+                    if (winner < 0) {
+                        continue;
+                    }
+                    int loser = winner == p ? q : p;
+                    int winnerSets = table.pairSets[winner * table.size + loser];
+                    table.tieBreakerSetsFor[winner] += winnerSets;
+                    table.tieBreakerSetsAgainst[loser] += winnerSets;
+                }
+            }
+            for (int i = from; i < to; i++) {
+                int p = order[i];
+                table.key[p] = ratio(table.tieBreakerSetsFor[p], table.tieBreakerSetsAgainst[p]);
+            }
+        }
+    }
+}
@@ -1,105 +1,215 @@
 package com.maniasin.pingpongleague.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.time.Duration;
 
 /**
- * Rate Limiting 서비스
- * - 사용자별 분당 조회 횟수 제한
- * - 메모리 기반 간단한 구현 (실제 운영환경에서는 Redis 기반 구현 권장)
+ * Rate Limiting 서비스 (Bucket4j 토큰 버킷)
+ * - 사용자별 분당 조회 횟수 제한 + 서버 전체 분당 조회 횟수 제한
+ * - 토큰이 1분에 걸쳐 조금씩 채워지므로 고정 윈도우처럼 경계에서 한꺼번에 초기화되지 않음
+ * - Redis(Lettuce)가 있으면 버킷을 Redis에 두어 여러 노드가 같은 한도를 공유
+ * - Redis가 없으면 노드 로컬 버킷 사용 (일정 시간 사용되지 않은 버킷은 캐시에서 자동 만료)
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class RateLimitService {
 
+    private static final Duration REFILL_PERIOD = Duration.ofMinutes(1);
+    private static final String USER_KEY_PREFIX = "pingpong:rate:user:";
+    private static final String GLOBAL_KEY = "pingpong:rate:global";
+
+    private final ObjectProvider<RedisConnectionFactory> redisConnectionFactory;
+
     @Value("${crawler.rate-limit-per-minute:5}")
     private int rateLimitPerMinute;
 
-    // 사용자별 요청 카운터
-    private final Map<String, UserRequestCounter> userRequestMap = new ConcurrentHashMap<>();
+    // 서버 전체(모든 사용자 합산) 분당 조회 제한
+    @Value("${crawler.rate-limit.global-per-minute:60}")
+    private int globalRateLimitPerMinute;
+
+    // false이면 Redis가 있어도 노드 로컬 버킷만 사용
+    @Value("${crawler.rate-limit.redis-enabled:true}")
+    private boolean redisEnabled;
+
+    private BucketConfiguration userBucketConfiguration;
+    private BucketConfiguration globalBucketConfiguration;
+
+    // 로컬 모드: 다 채워진 버킷은 새로 만든 버킷과 같으므로 충전 주기 동안 쓰이지 않으면 버려도 됨
+    private final Cache<String, Bucket> localBuckets = Caffeine.newBuilder()
+            .expireAfterAccess(REFILL_PERIOD)
+            .build();
+    private Bucket localGlobalBucket;
+
+    // Redis 모드 (Redis를 사용할 수 없으면 null)
+    private StatefulRedisConnection<String, byte[]> redisConnection;
+    private ProxyManager<String> proxyManager;
+
+    @PostConstruct
+    public void init() {
+        userBucketConfiguration = bucketConfiguration(rateLimitPerMinute);
+        globalBucketConfiguration = bucketConfiguration(globalRateLimitPerMinute);
+        localGlobalBucket = Bucket.builder()
+                .addLimit(globalBucketConfiguration.getBandwidths()[0])
+                .build();
+
+        RedisConnectionFactory connectionFactory = redisEnabled ? redisConnectionFactory.getIfAvailable() : null;
+        if (connectionFactory instanceof LettuceConnectionFactory lettuce
+                && lettuce.getNativeClient() instanceof RedisClient redisClient) {
+            try {
+                redisConnection = redisClient.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+                // 버킷이 가득 차는 데 걸리는 시간이 지나면 Redis에서 자동 삭제 (별도 정리 불필요)
+                proxyManager = LettuceBasedProxyManager.builderFor(redisConnection)
+                        .withExpirationStrategy(ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(REFILL_PERIOD))
+                        .build();
+                log.info("Redis 기반 Rate Limit 사용 (사용자 {}회/분, 전체 {}회/분)", rateLimitPerMinute, globalRateLimitPerMinute);
+                return;
+            } catch (RuntimeException e) {
+                log.debug("Redis 연결 실패: {}", e.getMessage());
+                shutdown();
+            }
+        }
+        log.info("Redis를 사용할 수 없어 노드 로컬 Rate Limit 사용 (사용자 {}회/분, 전체 {}회/분)",
+                rateLimitPerMinute, globalRateLimitPerMinute);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        proxyManager = null;
+        if (redisConnection != null) {
+            redisConnection.close();
+            redisConnection = null;
+        }
+    }
 
     /**
      * Rate Limit 체크
+     * - 사용자 버킷과 전체 버킷에서 모두 토큰을 얻어야 허용
+     * - 전체 한도에 걸리면 사용자 토큰은 돌려줌
+     * - 거부되면 걸린 한도와 그 버킷이 다시 채워질 때까지의 시간을 함께 반환
      * @param username 사용자명
-     * @return true if allowed, false if rate limit exceeded
      */
-    public boolean allowRequest(String username) {
-        UserRequestCounter counter = userRequestMap.computeIfAbsent(
-                username, 
-                k -> new UserRequestCounter()
-        );
-
-        return counter.tryIncrement(rateLimitPerMinute);
+    public Decision tryAcquire(String username) {
+        try {
+            return tryAcquire(username, userBucket(username), globalBucket());
+        } catch (RuntimeException e) {
+            // Redis 장애 시 조회를 막지 않도록 로컬 버킷으로 판단
+            log.warn("Redis Rate Limit 확인 실패, 로컬 버킷 사용: {}", e.getMessage());
+            return tryAcquire(username, localUserBucket(username), localGlobalBucket);
+        }
     }
 
     /**
      * 남은 요청 가능 횟수 반환
      */
     public int getRemainingRequests(String username) {
-        UserRequestCounter counter = userRequestMap.get(username);
-        if (counter == null) {
-            return rateLimitPerMinute;
+        try {
+            return (int) userBucket(username).getAvailableTokens();
+        } catch (RuntimeException e) {
+            log.warn("Redis Rate Limit 조회 실패, 로컬 버킷 사용: {}", e.getMessage());
+            return (int) localUserBucket(username).getAvailableTokens();
         }
-        return Math.max(0, rateLimitPerMinute - counter.getCount());
     }
 
     /**
-     * 사용자별 요청 카운터 클래스
+     * 오래된 로컬 버킷 정리
+     * - 만료는 캐시가 처리하므로 전체를 순회하지 않고 보류 중인 만료 작업만 실행
      */
-    private static class UserRequestCounter {
-        private final AtomicInteger count = new AtomicInteger(0);
-        private volatile long windowStartTime = System.currentTimeMillis();
-        private static final long WINDOW_SIZE_MS = 60_000; // 1분
-
-        public boolean tryIncrement(int limit) {
-            long now = System.currentTimeMillis();
-            
-            // 시간 윈도우가 지났으면 리셋
-            if (now - windowStartTime >= WINDOW_SIZE_MS) {
-                synchronized (this) {
-                    if (now - windowStartTime >= WINDOW_SIZE_MS) {
-                        count.set(0);
-                        windowStartTime = now;
-                    }
-                }
-            }
+    public void cleanup() {
+        localBuckets.cleanUp();
+    }
 
-            // 현재 카운트 체크
-            int currentCount = count.get();
-            if (currentCount >= limit) {
-                return false;
-            }
+    private Decision tryAcquire(String username, Bucket userBucket, Bucket globalBucket) {
+        ConsumptionProbe userProbe = userBucket.tryConsumeAndReturnRemaining(1);
+        if (!userProbe.isConsumed()) {
+            return Decision.rejected(Limit.USER, userProbe);
+        }
+        ConsumptionProbe globalProbe = globalBucket.tryConsumeAndReturnRemaining(1);
+        if (!globalProbe.isConsumed()) {
+            log.warn("전체 조회 한도 초과: '{}'", username);
+            userBucket.addTokens(1);
+            return Decision.rejected(Limit.GLOBAL, globalProbe);
+        }
+        return Decision.builder().allowed(true).build();
+    }
 
-            // 증가 시도
-            return count.incrementAndGet() <= limit;
+    private Bucket userBucket(String username) {
+        if (proxyManager != null) {
+            return proxyManager.builder().build(USER_KEY_PREFIX + username, () -> userBucketConfiguration);
         }
+        return localUserBucket(username);
+    }
 
-        public int getCount() {
-            long now = System.currentTimeMillis();
-            
-            // 시간 윈도우가 지났으면 0 반환
-            if (now - windowStartTime >= WINDOW_SIZE_MS) {
-                return 0;
-            }
-            
-            return count.get();
+    private Bucket globalBucket() {
+        if (proxyManager != null) {
+            return proxyManager.builder().build(GLOBAL_KEY, () -> globalBucketConfiguration);
         }
+        return localGlobalBucket;
+    }
+
+    private Bucket localUserBucket(String username) {
+        return localBuckets.get(username, key -> Bucket.builder()
+                .addLimit(userBucketConfiguration.getBandwidths()[0])
+                .build());
     }
 
     /**
-     * 주기적으로 오래된 엔트리 정리 (메모리 누수 방지)
-     * 실제 운영환경에서는 @Scheduled 등으로 주기적 정리 필요
+     * 분당 limit개, 1분에 걸쳐 고르게 채워지는 버킷 (refillGreedy)
      */
-    public void cleanup() {
-        long now = System.currentTimeMillis();
-        userRequestMap.entrySet().removeIf(entry -> {
-            UserRequestCounter counter = entry.getValue();
-            return now - counter.windowStartTime >= UserRequestCounter.WINDOW_SIZE_MS * 2;
-        });
+    private static BucketConfiguration bucketConfiguration(int limitPerMinute) {
+        return BucketConfiguration.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(limitPerMinute)
+                        .refillGreedy(limitPerMinute, REFILL_PERIOD)
+                        .build())
+                .build();
+    }
+
+    /**
+     * 요청을 거부한 한도 (사용자별 / 서버 전체)
+     */
+    public enum Limit {
+        USER, GLOBAL
+    }
+
+    @Getter
+    @Builder
+    public static class Decision {
+        private final boolean allowed;
+        private final Limit limit; // 거부한 한도 (허용이면 null)
+        private final long retryAfterSeconds; // 거부한 버킷에서 다음 토큰이 채워질 때까지 (초)
+
+        private static Decision rejected(Limit limit, ConsumptionProbe probe) {
+            return Decision.builder()
+                    .allowed(false)
+                    .limit(limit)
+                    .retryAfterSeconds(Duration.ofNanos(probe.getNanosToWaitForRefill()).toSeconds() + 1)
+                    .build();
+        }
     }
 }
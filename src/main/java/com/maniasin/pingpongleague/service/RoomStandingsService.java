@@ -0,0 +1,145 @@
+package com.maniasin.pingpongleague.service;
+
+import com.maniasin.pingpongleague.domain.LeagueRoom;
+import com.maniasin.pingpongleague.domain.Match;
+import com.maniasin.pingpongleague.dto.GroupStandingDto;
+import com.maniasin.pingpongleague.repository.MatchRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 리그 방 단위 조 순위
+ * - 방의 경기를 한 번만 조회(스냅샷)하여 모든 조의 순위표를 한 번에 만듦
+ * - GroupStandingsStore에 저장된 조는 그대로 사용하고 없는 조만 계산 (계산할 경기가 많으면 조별 병렬 계산)
+ * - 웹 요청 안에서는 결과를 요청 속성에 두어 같은 요청의 다른 호출이 다시 조회/계산하지 않음
+ *   (그 사이 경기 결과가 반영되었거나 쓰기 트랜잭션 안에서 호출되면 새로 조회)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RoomStandingsService {
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = RoomStandingsService.class.getName() + ".room.";
+
+    private final MatchRepository matchRepository;
+    private final RankingService rankingService;
+    private final GroupStandingsStore groupStandingsStore;
+
+    // 새로 계산해야 하는 조들의 경기 수 합이 이 값 이상이면 조별로 병렬 계산
+    @Value("${league.standings.parallel-min-matches:1000}")
+    private int parallelMinMatches;
+
+    public RoomStandings getRoomStandings(LeagueRoom leagueRoom) {
+        RequestAttributes request = reusable() ? RequestContextHolder.getRequestAttributes() : null;
+        String attributeName = REQUEST_ATTRIBUTE_PREFIX + leagueRoom.getId();
+        if (request != null
+                && request.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST) instanceof RoomStandings cached
+                && cached.stamp == groupStandingsStore.stamp()) {
+            return cached;
+        }
+
+        RoomStandings roomStandings = load(leagueRoom);
+        if (request != null) {
+            request.setAttribute(attributeName, roomStandings, RequestAttributes.SCOPE_REQUEST);
+        }
+        return roomStandings;
+    }
+
+    // 쓰기 트랜잭션에서는 이후 변경이 이어질 수 있으므로 요청 내 재사용을 하지 않음
+    private boolean reusable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private RoomStandings load(LeagueRoom leagueRoom) {
+        long stamp = groupStandingsStore.stamp();
+        List<Match> allMatches = matchRepository.findByLeagueRoomWithDetails(leagueRoom);
+        RankingRule rule = RankingRule.of(leagueRoom);
+
+        Map<String, List<Match>> groupedMatches = allMatches.stream()
+                .filter(match -> match.getLeagueGroup() != null)
+                .collect(Collectors.groupingBy(match -> match.getLeagueGroup().getGroupName(), TreeMap::new, Collectors.toList()));
+
+        // 저장된 순위표가 없는 조만 계산 대상 - 엔티티 접근은 요청 스레드에서 끝내고 순위 계산만 병렬로
+        Map<String, List<GroupStandingDto>> standingsByGroup = new HashMap<>();
+        List<PendingGroup> pendingGroups = new ArrayList<>();
+        groupedMatches.forEach((groupName, groupMatches) -> {
+            Long groupId = groupMatches.get(0).getLeagueGroup().getId();
+            List<GroupStandingDto> stored = groupStandingsStore.find(groupId, rule);
+            if (stored != null) {
+                standingsByGroup.put(groupName, stored);
+            } else {
+                pendingGroups.add(new PendingGroup(groupName, groupId, rankingService.toResults(groupMatches)));
+            }
+        });
+
+        int pendingMatches = pendingGroups.stream().mapToInt(group -> group.results.size()).sum();
+        Stream<PendingGroup> pending = pendingGroups.size() > 1 && pendingMatches >= parallelMinMatches
+                ? pendingGroups.parallelStream()
+                : pendingGroups.stream();
+        standingsByGroup.putAll(pending.collect(Collectors.toMap(
+                group -> group.groupName,
+                group -> groupStandingsStore.build(group.groupId, group.results, rule, stamp))));
+
+        Map<String, GroupStandings> groups = new LinkedHashMap<>();
+        groupedMatches.forEach((groupName, groupMatches) -> groups.put(groupName, new GroupStandings(
+                groupName, groupMatches.get(0).getLeagueGroup().getId(), groupMatches, standingsByGroup.get(groupName))));
+        return new RoomStandings(stamp, allMatches, groups);
+    }
+
+    private static class PendingGroup {
+        private final String groupName;
+        private final Long groupId;
+        private final List<RankingService.MatchResult> results;
+
+        private PendingGroup(String groupName, Long groupId, List<RankingService.MatchResult> results) {
+            this.groupName = groupName;
+            this.groupId = groupId;
+            this.results = results;
+        }
+    }
+
+    /**
+     * 한 번의 조회로 만든 방 전체 경기와 조별 순위표
+     */
+    @Getter
+    public static class RoomStandings {
+        private final long stamp;
+        // 방의 전체 경기 (본선 포함)
+        private final List<Match> matches;
+        // 조 이름 순
+        private final Map<String, GroupStandings> groups;
+
+        private RoomStandings(long stamp, List<Match> matches, Map<String, GroupStandings> groups) {
+            this.stamp = stamp;
+            this.matches = matches;
+            this.groups = groups;
+        }
+    }
+
+    @Getter
+    public static class GroupStandings {
+        private final String groupName;
+        private final Long groupId;
+        private final List<Match> matches;
+        // 읽기 전용 (GroupStandingsStore와 공유)
+        private final List<GroupStandingDto> standings;
+
+        private GroupStandings(String groupName, Long groupId, List<Match> matches, List<GroupStandingDto> standings) {
+            this.groupName = groupName;
+            this.groupId = groupId;
+            this.matches = matches;
+            this.standings = standings;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.maniasin.pingpongleague.service;
+
+import com.maniasin.pingpongleague.dto.GroupStandingDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 조 순위 계산용 전적 표 (기본형 배열)
+ * - 선수(팀)마다 0부터 번호를 붙이고, 전적과 두 선수 사이 경기 결과를 번호로 찾는 배열에 보관
+ * - 순위 계산(RankingRule.rank) 중에는 객체를 만들지 않으며, GroupStandingDto는 결과를 돌려줄 때만 만듦
+ * - 번호 순서는 경기 ID 순으로 처음 등장한 순서 (동점자 정렬 전의 기본 순서)
+ */
+public final class StandingsTable {
+
+    // 두 선수 사이 경기 상태 (pairWinner 값)
+    static final int NO_MATCH = -2;
+    static final int UNDECIDED = -1;
+
+    final int size;
+    final long[] ids;
+    final String[] names;
+    final int[] played;
+    final int[] wins;
+    final int[] losses;
+    final int[] points;
+    final int[] setsFor;
+    final int[] setsAgainst;
+
+    // [a * size + b]: a와 b 사이 첫 경기의 승자 번호 (NO_MATCH, UNDECIDED), a가 딴 세트 수
+    final int[] pairWinner;
+    final int[] pairSets;
+
+    // 마지막 순위 계산의 동점자 처리 결과
+    final int[] tieBreakerSetsFor;
+    final int[] tieBreakerSetsAgainst;
+    final String[] remarks;
+    // 정렬 단계별 비교 키 (작업 공간)
+    final double[] key;
+
+    private StandingsTable(int size, long[] ids, String[] names) {
+        this.size = size;
+        this.ids = ids;
+        this.names = names;
+        this.played = new int[size];
+        this.wins = new int[size];
+        this.losses = new int[size];
+        this.points = new int[size];
+        this.setsFor = new int[size];
+        this.setsAgainst = new int[size];
+        this.pairWinner = new int[size * size];
+        this.pairSets = new int[size * size];
+        this.tieBreakerSetsFor = new int[size];
+        this.tieBreakerSetsAgainst = new int[size];
+        this.remarks = new String[size];
+        this.key = new double[size];
+        Arrays.fill(pairWinner, NO_MATCH);
+        Arrays.fill(remarks, "");
+    }
+
+    /**
+     * 조의 전체 경기로 전적 표 생성
+     * @param results 경기 ID 순으로 정렬된 조 경기
+     */
+    public static StandingsTable of(List<RankingService.MatchResult> results) {
+        // 1. 선수(팀) 번호 부여 - ID로 번호를 찾는 open addressing 표 (값은 번호 + 1, 0이면 빈 칸)
+        int capacity = Math.max(2, results.size() * 2);
+        long[] seenIds = new long[capacity];
+        String[] seenNames = new String[capacity];
+        int[] slots = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+        int[] side1 = new int[results.size()];
+        int[] side2 = new int[results.size()];
+        int count = 0;
+        for (int m = 0; m < results.size(); m++) {
+            RankingService.MatchResult result = results.get(m);
+            side1[m] = -1;
+            side2[m] = -1;
+            if (result.getSide1Id() != null) {
+                side1[m] = indexOf(slots, seenIds, result.getSide1Id(), count);
+                if (side1[m] == count) {
+                    seenNames[count++] = result.getSide1Name();
+                }
+            }
+            if (result.getSide2Id() != null) {
+                side2[m] = indexOf(slots, seenIds, result.getSide2Id(), count);
+                if (side2[m] == count) {
+                    seenNames[count++] = result.getSide2Name();
+                }
+            }
+        }
+
+        StandingsTable table = new StandingsTable(count, Arrays.copyOf(seenIds, count), Arrays.copyOf(seenNames, count));
+
+        // 2. 종료된 경기를 전적에 반영하고, 두 선수 사이 첫 경기를 기록
+        for (int m = 0; m < results.size(); m++) {
+            int a = side1[m];
+            int b = side2[m];
+            if (a < 0 || b < 0) {
+                continue;
+            }
+            RankingService.MatchResult result = results.get(m);
+            int winner = UNDECIDED;
+            if (result.isCompleted() && result.getWinnerId() != null) {
+                winner = result.getWinnerId() == table.ids[a] ? a : b;
+                table.recordResult(winner, winner == a ? b : a,
+                        winner == a ? result.getSide1Score() : result.getSide2Score(),
+                        winner == a ? result.getSide2Score() : result.getSide1Score());
+            }
+            table.putPair(a, b, winner, result.getSide1Score(), result.getSide2Score());
+        }
+        return table;
+    }
+
+    /**
+     * 승점/승수가 같은 선수(팀)들의 전적 표 (순위 저장소에서 동점자 그룹만 다시 정렬할 때 사용)
+     * - 두 선수 사이 경기는 승자승 색인에서 찾음
+     */
+    public static StandingsTable ofTied(List<GroupStandingDto> tiedPlayers, HeadToHeadIndex headToHead) {
+        int size = tiedPlayers.size();
+        long[] ids = new long[size];
+        String[] names = new String[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = tiedPlayers.get(i).getPlayerId();
+            names[i] = tiedPlayers.get(i).getPlayerName();
+        }
+
+        StandingsTable table = new StandingsTable(size, ids, names);
+        for (int i = 0; i < size; i++) {
+            GroupStandingDto standing = tiedPlayers.get(i);
+            table.played[i] = standing.getPlayed();
+            table.wins[i] = standing.getWins();
+            table.losses[i] = standing.getLosses();
+            table.points[i] = standing.getPoints();
+            table.setsFor[i] = standing.getGamesWon();
+            table.setsAgainst[i] = standing.getGamesLost();
+        }
+        for (int a = 0; a < size; a++) {
+            for (int b = a + 1; b < size; b++) {
+                RankingService.MatchResult match = headToHead.get(ids[a], ids[b]);
+                if (match == null) {
+                    continue;
+                }
+                boolean aIsSide1 = match.getSide1Id() == ids[a];
+                int winner = UNDECIDED;
+                if (match.isCompleted() && match.getWinnerId() != null) {
+                    winner = match.getWinnerId() == ids[a] ? a : b;
+                }
+                table.putPair(a, b, winner,
+                        aIsSide1 ? match.getSide1Score() : match.getSide2Score(),
+                        aIsSide1 ? match.getSide2Score() : match.getSide1Score());
+            }
+        }
+        return table;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 번호 순서(기본 순서)의 선수별 전적 DTO - 마지막 순위 계산의 동점자 처리 결과 포함, 순위는 비어 있음
+     */
+    public GroupStandingDto[] toRows() {
+        GroupStandingDto[] rows = new GroupStandingDto[size];
+        for (int i = 0; i < size; i++) {
+            GroupStandingDto row = new GroupStandingDto(ids[i], names[i]);
+            row.setPlayed(played[i]);
+            row.setWins(wins[i]);
+            row.setLosses(losses[i]);
+            row.setPoints(points[i]);
+            row.setGamesWon(setsFor[i]);
+            row.setGamesLost(setsAgainst[i]);
+            row.setRemarks(remarks[i]);
+            row.setTieBreakerGamesWon(tieBreakerSetsFor[i]);
+            row.setTieBreakerGamesLost(tieBreakerSetsAgainst[i]);
+            rows[i] = row;
+        }
+        return rows;
+    }
+
+    /**
+     * 순위 순서의 전적 DTO (1위부터 순위 부여)
+     * @param order RankingRule.rank()가 돌려준 순서
+     */
+    public List<GroupStandingDto> toStandings(int[] order) {
+        return inRankOrder(toRows(), order);
+    }
+
+    public static List<GroupStandingDto> inRankOrder(GroupStandingDto[] rows, int[] order) {
+        List<GroupStandingDto> standings = new ArrayList<>(order.length);
+        for (int i = 0; i < order.length; i++) {
+            GroupStandingDto row = rows[order[i]];
+            row.setRank(i + 1);
+            standings.add(row);
+        }
+        return standings;
+    }
+
+    void resetTieBreakers() {
+        Arrays.fill(tieBreakerSetsFor, 0);
+        Arrays.fill(tieBreakerSetsAgainst, 0);
+        Arrays.fill(remarks, "");
+    }
+
+    private void recordResult(int winner, int loser, int winnerSets, int loserSets) {
+        played[winner]++;
+        wins[winner]++;
+        points[winner] += 3;
+        setsFor[winner] += winnerSets;
+        setsAgainst[winner] += loserSets;
+
+        played[loser]++;
+        losses[loser]++;
+        points[loser] += 1;
+        setsFor[loser] += loserSets;
+        setsAgainst[loser] += winnerSets;
+    }
+
+    // 조별 풀리그는 두 선수가 한 번씩만 만나므로 첫 경기만 기록 (승자승 색인과 같은 기준)
+    private void putPair(int a, int b, int winner, int aSets, int bSets) {
+        if (pairWinner[a * size + b] != NO_MATCH) {
+            return;
+        }
+        pairWinner[a * size + b] = winner;
+        pairWinner[b * size + a] = winner;
+        pairSets[a * size + b] = aSets;
+        pairSets[b * size + a] = bSets;
+    }
+
+    // ID의 번호 (처음 보는 ID면 count 번호를 새로 등록)
+    private static int indexOf(int[] slots, long[] seenIds, long id, int count) {
+        int mask = slots.length - 1;
+        long h = id * 0x9E37_79B9_7F4A_7C15L;
+        int slot = (int) (h ^ (h >>> 32)) & mask;
+        while (slots[slot] != 0) {
+            int index = slots[slot] - 1;
+            if (seenIds[index] == id) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = count + 1;
+        seenIds[count] = id;
+        return count;
+    }
+}
@@ -0,0 +1,176 @@
+package com.maniasin.pingpongleague.service.crawler;
+
+import com.maniasin.pingpongleague.domain.AwardRecord;
+import com.maniasin.pingpongleague.domain.AwardRecordChange;
+import com.maniasin.pingpongleague.domain.Player;
+import com.maniasin.pingpongleague.domain.Tournament;
+import com.maniasin.pingpongleague.dto.CrawledRecordDto;
+import com.maniasin.pingpongleague.repository.AwardRecordChangeRepository;
+import com.maniasin.pingpongleague.repository.AwardRecordRepository;
+import com.maniasin.pingpongleague.repository.TournamentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 크롤러들이 파싱한 입상 기록을 한 번에 저장하는 Writer
+ * - 대회는 IN 쿼리 한 번으로 조회하고, 없는 대회만 일괄 저장
+ * - 선수의 기존 기록을 한 번에 읽어 메모리에서 중복 제거
+ * - 신규 기록은 saveAll로 JDBC 배치 insert (hibernate.jdbc.batch_size)
+ * - 새로 생긴 기록과 사이트에서 사라진 기록을 변경 이력(AwardRecordChange)으로 함께 저장
+ * - 사라진 기록은 삭제하지 않고 missingSince만 표시 (사이트 개편/빈 결과 페이지 한 번으로 기록이 지워지지 않도록)
+ *   crawler.changes.delete-missing=true이면 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AwardRecordWriter {
+
+    private final TournamentRepository tournamentRepository;
+    private final AwardRecordRepository awardRecordRepository;
+    private final AwardRecordChangeRepository awardRecordChangeRepository;
+
+    // 사이트에서 사라진 기록을 삭제할지 여부 (기본은 표시만 하고 보관)
+    @Value("${crawler.changes.delete-missing:false}")
+    private boolean deleteMissing;
+
+    /**
+     * @param organizer 새로 생성되는 대회의 주최측 (사이트명)
+     * @param complete 사이트의 기록을 파싱 실패 없이 끝까지 확인한 경우. 이 사이트에서 수집했던 기록 중 이번에 보이지 않은 기록을 사라진 기록으로 처리
+     * @return 새로 저장된 기록 수
+     */
+    @Transactional
+    public int write(Player player, String organizer, List<CrawledRecordDto> records, boolean complete) {
+        if (records.isEmpty()) {
+            // 파싱 실패와 구분할 수 없으므로 기록이 하나도 없으면 삭제 판단을 하지 않음
+            return 0;
+        }
+
+        Map<String, Tournament> tournaments = resolveTournaments(organizer, records);
+
+        List<AwardRecord> existingRecords = awardRecordRepository.findByPlayerId(player.getId());
+        Set<String> existingKeys = existingRecords.stream()
+                .map(this::recordKey)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        Set<String> crawledKeys = new HashSet<>();
+        List<AwardRecord> newRecords = new ArrayList<>();
+        for (CrawledRecordDto dto : records) {
+            Tournament tournament = tournaments.get(tournamentKey(dto.getTournamentName(), dto.getTournamentDate()));
+            String key = recordKey(tournament.getId(), dto.getDivision(), dto.getPlacing());
+            crawledKeys.add(key);
+            if (!existingKeys.add(key)) {
+                continue;
+            }
+            newRecords.add(AwardRecord.builder()
+                    .player(player)
+                    .tournament(tournament)
+                    .division(dto.getDivision())
+                    .detail(dto.getDetail() != null ? dto.getDetail() : "")
+                    .placing(dto.getPlacing())
+                    .sourceSite(organizer)
+                    .build());
+        }
+
+        // 사라진 기록은 처음 사라졌을 때 한 번만, 다시 보이면 추가로 이력에 남김
+        LocalDateTime now = LocalDateTime.now();
+        List<AwardRecord> addedRecords = new ArrayList<>(newRecords);
+        List<AwardRecord> removedRecords = new ArrayList<>();
+        for (AwardRecord record : existingRecords) {
+            if (!organizer.equals(record.getSourceSite())) {
+                continue;
+            }
+            boolean crawled = crawledKeys.contains(recordKey(record));
+            if (crawled && record.getMissingSince() != null) {
+                record.setMissingSince(null);
+                addedRecords.add(record);
+            } else if (!crawled && complete && record.getMissingSince() == null) {
+                record.setMissingSince(now);
+                removedRecords.add(record);
+            }
+        }
+
+        awardRecordRepository.saveAll(newRecords);
+        // 처음 수집하는 선수는 전체 기록을 보여주므로 변경 이력을 남기지 않음
+        if (!existingRecords.isEmpty()) {
+            saveChanges(player, organizer, addedRecords, removedRecords, now);
+        }
+        if (deleteMissing) {
+            awardRecordRepository.deleteAll(removedRecords);
+        }
+        log.info("[{}] 입상 기록 일괄 저장: 파싱 {}건, 신규 {}건, 사라짐 {}건{}, 대회 {}개",
+                organizer, records.size(), newRecords.size(), removedRecords.size(),
+                deleteMissing ? "(삭제)" : "", tournaments.size());
+        return newRecords.size();
+    }
+
+    private void saveChanges(Player player, String organizer, List<AwardRecord> added, List<AwardRecord> removed,
+                             LocalDateTime now) {
+        List<AwardRecordChange> changes = new ArrayList<>(added.size() + removed.size());
+        added.forEach(record -> changes.add(change(player, organizer, AwardRecordChange.ChangeType.ADDED, record, now)));
+        removed.forEach(record -> changes.add(change(player, organizer, AwardRecordChange.ChangeType.REMOVED, record, now)));
+        awardRecordChangeRepository.saveAll(changes);
+    }
+
+    private AwardRecordChange change(Player player, String organizer, AwardRecordChange.ChangeType type,
+                                     AwardRecord record, LocalDateTime changedAt) {
+        return AwardRecordChange.builder()
+                .player(player)
+                .changeType(type)
+                .siteName(organizer)
+                .record(record)
+                .changedAt(changedAt)
+                .build();
+    }
+
+    private Map<String, Tournament> resolveTournaments(String organizer, List<CrawledRecordDto> records) {
+        Set<String> names = records.stream()
+                .map(CrawledRecordDto::getTournamentName)
+                .collect(Collectors.toSet());
+
+        Map<String, Tournament> tournaments = new HashMap<>();
+        for (Tournament tournament : tournamentRepository.findByNameIn(names)) {
+            tournaments.putIfAbsent(tournamentKey(tournament.getName(), tournament.getTournamentDate()), tournament);
+        }
+
+        List<Tournament> newTournaments = new ArrayList<>();
+        for (CrawledRecordDto dto : records) {
+            String key = tournamentKey(dto.getTournamentName(), dto.getTournamentDate());
+            if (!tournaments.containsKey(key)) {
+                Tournament tournament = Tournament.builder()
+                        .name(dto.getTournamentName())
+                        .tournamentDate(dto.getTournamentDate())
+                        .organizer(organizer)
+                        .build();
+                tournaments.put(key, tournament);
+                newTournaments.add(tournament);
+            }
+        }
+        tournamentRepository.saveAll(newTournaments);
+        return tournaments;
+    }
+
+    private String tournamentKey(String name, LocalDate date) {
+        return name + "|" + date;
+    }
+
+    private String recordKey(AwardRecord record) {
+        return recordKey(record.getTournament().getId(), record.getDivision(), record.getPlacing());
+    }
+
+    private String recordKey(Long tournamentId, String division, String placing) {
+        return tournamentId + "|" + division + "|" + placing;
+    }
+}
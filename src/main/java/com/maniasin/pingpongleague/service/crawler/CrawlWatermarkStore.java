@@ -0,0 +1,107 @@
+package com.maniasin.pingpongleague.service.crawler;
+
+import com.maniasin.pingpongleague.config.CrawlerConfig;
+import com.maniasin.pingpongleague.domain.CrawlWatermark;
+import com.maniasin.pingpongleague.dto.CrawledRecordDto;
+import com.maniasin.pingpongleague.repository.CrawlWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 증분 크롤링 기준점 관리
+ * - 사이트 목록이 최신순으로 정렬되어 있다는 전제에서, 기준 날짜보다 오래된 기록이 보이면 이후 페이지는 이미 수집된 기록
+ * - 기준점이 없거나 전체 크롤링 주기가 지났으면 전체 크롤링
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlWatermarkStore {
+
+    private final CrawlWatermarkRepository watermarkRepository;
+    private final CrawlerConfig crawlerConfig;
+
+    /**
+     * 이번 크롤링에서 멈출 기준 날짜
+     * @return 이 날짜보다 오래된 기록이 나오면 페이지 넘김을 멈춤. 전체 크롤링이 필요하면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> findStopDate(String playerName, String siteKey) {
+        if (!crawlerConfig.isIncrementalCrawlEnabled()) {
+            return Optional.empty();
+        }
+        LocalDateTime fullRefreshBefore = LocalDateTime.now().minusDays(crawlerConfig.getIncrementalFullRefreshDays());
+        return watermarkRepository.findByPlayerNameAndSiteKey(playerName, siteKey)
+                .filter(watermark -> watermark.getLastFullCrawlAt().isAfter(fullRefreshBefore))
+                .map(CrawlWatermark::getLatestTournamentDate);
+    }
+
+    /**
+     * 크롤링 결과로 기준점 갱신 (기록 저장이 끝난 뒤 호출)
+     * @param fullCrawl 중간에 멈추지 않고 끝까지 확인한 경우
+     */
+    @Transactional
+    public void advance(String playerName, String siteKey, List<CrawledRecordDto> records, boolean fullCrawl) {
+        LocalDate seenLatestDate = records.stream()
+                .map(CrawledRecordDto::getTournamentDate)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+
+        CrawlWatermark watermark = watermarkRepository.findByPlayerNameAndSiteKey(playerName, siteKey)
+                .orElse(null);
+        if (watermark == null) {
+            if (!fullCrawl) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            watermarkRepository.save(CrawlWatermark.builder()
+                    .playerName(playerName)
+                    .siteKey(siteKey)
+                    .latestTournamentDate(seenLatestDate)
+                    .lastFullCrawlAt(now)
+                    .updatedAt(now)
+                    .build());
+        } else {
+            watermark.advance(seenLatestDate, fullCrawl);
+        }
+        log.debug("[{}] '{}' 증분 크롤링 기준점 갱신: {} (전체 크롤링: {})", siteKey, playerName, seenLatestDate, fullCrawl);
+    }
+
+    /**
+     * 기준점 삭제 (다음 크롤링은 전체 크롤링)
+     * - 사이트 정렬이 전제와 다르다는 것이 확인된 경우
+     */
+    @Transactional
+    public void reset(String playerName, String siteKey) {
+        watermarkRepository.findByPlayerNameAndSiteKey(playerName, siteKey)
+                .ifPresent(watermarkRepository::delete);
+    }
+
+    /**
+     * 한 페이지에서 기준 날짜보다 오래된 기록이 보였는지 (이후 페이지는 이미 수집된 기록)
+     */
+    public static boolean reachedKnownRecords(List<LocalDate> pageDates, LocalDate stopDate) {
+        return stopDate != null && pageDates.stream().anyMatch(date -> date.isBefore(stopDate));
+    }
+
+    /**
+     * 페이지가 최신순으로 정렬되어 있는지 (아니면 증분 크롤링을 쓰지 않고 끝까지 확인)
+     */
+    public static boolean isNewestFirst(List<LocalDate> pageDates) {
+        for (int i = 1; i < pageDates.size(); i++) {
+            if (pageDates.get(i).isAfter(pageDates.get(i - 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,191 @@
+package com.maniasin.pingpongleague.service.crawler;
+
+import com.maniasin.pingpongleague.config.CrawlerConfig;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 사이트별 Circuit Breaker
+ * - CLOSED: 정상. 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN: 일정 시간 동안 해당 사이트 크롤링을 건너뜀
+ * - HALF_OPEN: 차단 시간이 지나면 시험 요청 1건만 허용. 성공하면 CLOSED, 실패하면 다시 OPEN
+ * - 제한 시간은 최근 성공 응답시간의 p95를 기준으로 사이트마다 다르게 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlerCircuitBreaker {
+
+    private static final int LATENCY_WINDOW = 50;
+    private static final int MIN_LATENCY_SAMPLES = 5;
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final CrawlerConfig crawlerConfig;
+
+    private final Map<String, SiteState> sites = new ConcurrentHashMap<>();
+
+    /**
+     * 크롤링 허용 여부
+     * - false이면 이번 작업에서 해당 사이트는 건너뜀
+     */
+    public boolean tryAcquire(String siteName) {
+        SiteState site = site(siteName);
+        synchronized (site) {
+            switch (site.state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    long openMillis = Duration.ofSeconds(crawlerConfig.getCircuitOpenSeconds()).toMillis();
+                    if (System.currentTimeMillis() - site.openedAt < openMillis) {
+                        return false;
+                    }
+                    site.state = State.HALF_OPEN;
+                    site.probeInFlight = true;
+                    log.info("[{}] Circuit HALF_OPEN: 시험 요청 허용", siteName);
+                    return true;
+                case HALF_OPEN:
+                default:
+                    if (site.probeInFlight) {
+                        return false;
+                    }
+                    site.probeInFlight = true;
+                    return true;
+            }
+        }
+    }
+
+    /**
+     * 사이트별 제한 시간
+     * - 성공 기록이 충분하지 않으면 최대 제한 시간 사용
+     */
+    public Duration timeoutFor(String siteName) {
+        Duration max = Duration.ofSeconds(crawlerConfig.getCircuitMaxTimeoutSeconds());
+        long p95 = site(siteName).latencyPercentile(0.95);
+        if (p95 < 0) {
+            return max;
+        }
+        Duration min = Duration.ofSeconds(crawlerConfig.getCircuitMinTimeoutSeconds());
+        Duration adaptive = Duration.ofMillis((long) (p95 * crawlerConfig.getCircuitTimeoutMultiplier()));
+        if (adaptive.compareTo(min) < 0) return min;
+        if (adaptive.compareTo(max) > 0) return max;
+        return adaptive;
+    }
+
+    /**
+     * 최근 성공 응답시간의 백분위수 (밀리초)
+     * - 성공 기록이 충분하지 않으면 -1
+     */
+    public long latencyPercentile(String siteName, double percentile) {
+        return site(siteName).latencyPercentile(percentile);
+    }
+
+    public void recordSuccess(String siteName, long elapsedMillis) {
+        SiteState site = site(siteName);
+        synchronized (site) {
+            site.recordLatency(elapsedMillis);
+            site.consecutiveFailures = 0;
+            site.probeInFlight = false;
+            if (site.state != State.CLOSED) {
+                log.info("[{}] Circuit CLOSED: 사이트 응답 정상화", siteName);
+            }
+            site.state = State.CLOSED;
+        }
+    }
+
+    public void recordFailure(String siteName, Throwable cause) {
+        SiteState site = site(siteName);
+        synchronized (site) {
+            site.consecutiveFailures++;
+            site.totalFailures++;
+            site.probeInFlight = false;
+            if (site.state == State.HALF_OPEN || site.consecutiveFailures >= crawlerConfig.getCircuitFailureThreshold()) {
+                if (site.state != State.OPEN) {
+                    log.warn("[{}] Circuit OPEN: 연속 {}회 실패, {}초 동안 건너뜀 (원인: {})",
+                            siteName, site.consecutiveFailures, crawlerConfig.getCircuitOpenSeconds(), cause.getMessage());
+                }
+                site.state = State.OPEN;
+                site.openedAt = System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * 허용을 받았지만 사이트에 요청하지 못한 경우 (사이트 장애와 무관한 사유)
+     * - HALF_OPEN 시험 요청 자리를 반납하여 다음 요청이 시험할 수 있도록 함
+     */
+    public void cancel(String siteName) {
+        SiteState site = site(siteName);
+        synchronized (site) {
+            site.probeInFlight = false;
+        }
+    }
+
+    public Map<String, Stats> getStats() {
+        return sites.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> {
+                    SiteState site = entry.getValue();
+                    synchronized (site) {
+                        return Stats.builder()
+                                .state(site.state)
+                                .consecutiveFailures(site.consecutiveFailures)
+                                .totalFailures(site.totalFailures)
+                                .p95LatencyMillis(site.latencyPercentile(0.95))
+                                .timeoutMillis(timeoutFor(entry.getKey()).toMillis())
+                                .build();
+                    }
+                }));
+    }
+
+    private SiteState site(String siteName) {
+        return sites.computeIfAbsent(siteName, key -> new SiteState());
+    }
+
+    private static class SiteState {
+        private State state = State.CLOSED;
+        private int consecutiveFailures = 0;
+        private long totalFailures = 0;
+        private long openedAt = 0;
+        private boolean probeInFlight = false;
+
+        // 최근 성공 응답시간 (원형 버퍼)
+        private final long[] latencies = new long[LATENCY_WINDOW];
+        private int latencyCount = 0;
+        private int latencyIndex = 0;
+
+        void recordLatency(long millis) {
+            latencies[latencyIndex] = millis;
+            latencyIndex = (latencyIndex + 1) % LATENCY_WINDOW;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW);
+        }
+
+        synchronized long latencyPercentile(double percentile) {
+            if (latencyCount < MIN_LATENCY_SAMPLES) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)];
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class Stats {
+        private final State state;
+        private final int consecutiveFailures;
+        private final long totalFailures;
+        private final long p95LatencyMillis;
+        private final long timeoutMillis;
+    }
+}
@@ -0,0 +1,102 @@
+package com.maniasin.pingpongleague.service.crawler;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+
+/**
+ * 고정 대기(Thread.sleep) 대신 DOM 변화를 기준으로 기다리는 도우미
+ * - MutationObserver: 감시 영역에 변경이 생긴 뒤 일정 시간(quiet) 동안 추가 변경이 없으면 로딩 완료로 판단
+ * - 요소 개수 안정화: 목록 항목 수가 바뀐 뒤 일정 시간 동안 그대로이면 로딩 완료로 판단
+ */
+public final class DomWaits {
+
+    // 마지막 변경 이후 이 시간 동안 변화가 없으면 AJAX 반영이 끝난 것으로 간주
+    public static final Duration DEFAULT_QUIET = Duration.ofMillis(200);
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    private static final String WATCH_SCRIPT =
+            "var target = document.querySelector(arguments[0]) || document.body;" +
+            "if (window.__domWaitsObserver) { window.__domWaitsObserver.disconnect(); }" +
+            "window.__domWaitsMutations = 0;" +
+            "window.__domWaitsLastMutation = 0;" +
+            "window.__domWaitsObserver = new MutationObserver(function (records) {" +
+            "  window.__domWaitsMutations += records.length;" +
+            "  window.__domWaitsLastMutation = Date.now();" +
+            "});" +
+            "window.__domWaitsObserver.observe(target, { childList: true, subtree: true, characterData: true });";
+
+    // 변경 후 경과 시간(ms). 아직 변경이 없으면 -1, 페이지가 새로 로드되어 감시가 사라졌으면 로드 완료 시 충분히 큰 값
+    private static final String ELAPSED_SCRIPT =
+            "if (window.__domWaitsMutations === undefined) {" +
+            "  return document.readyState === 'complete' ? 2147483647 : -1;" +
+            "}" +
+            "return window.__domWaitsMutations > 0 ? Date.now() - window.__domWaitsLastMutation : -1;";
+
+    private DomWaits() {
+    }
+
+    /**
+     * DOM 변경 감시 시작
+     * - 클릭 등으로 AJAX 요청을 보내기 직전에 호출
+     * @param cssSelector 감시할 영역 (없으면 body 전체)
+     */
+    public static void watchMutations(WebDriver driver, String cssSelector) {
+        ((JavascriptExecutor) driver).executeScript(WATCH_SCRIPT, cssSelector);
+    }
+
+    /**
+     * watchMutations 이후 변경이 발생하고 quiet 동안 더 이상 바뀌지 않을 때까지 대기
+     * @return 제한 시간 안에 변경이 반영되었으면 true
+     */
+    public static boolean awaitMutationsSettled(WebDriver driver, Duration quiet, Duration timeout) {
+        long quietMillis = quiet.toMillis();
+        try {
+            new WebDriverWait(driver, timeout, POLL_INTERVAL).until(d -> {
+                Object elapsed = ((JavascriptExecutor) d).executeScript(ELAPSED_SCRIPT);
+                return elapsed instanceof Number && ((Number) elapsed).longValue() >= quietMillis;
+            });
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    public static boolean awaitMutationsSettled(WebDriver driver, Duration timeout) {
+        return awaitMutationsSettled(driver, DEFAULT_QUIET, timeout);
+    }
+
+    /**
+     * 요소 개수가 previousCount에서 바뀌고 quiet 동안 그대로일 때까지 대기
+     * @return 안정화된 요소 개수. 제한 시간 안에 바뀌지 않으면 previousCount
+     */
+    public static int awaitCountSettled(WebDriver driver, By locator, int previousCount, Duration quiet, Duration timeout) {
+        long quietMillis = quiet.toMillis();
+        int[] lastCount = {previousCount};
+        long[] changedAt = {0};
+        try {
+            return new WebDriverWait(driver, timeout, POLL_INTERVAL).until(d -> {
+                int count = d.findElements(locator).size();
+                long now = System.currentTimeMillis();
+                if (count != lastCount[0]) {
+                    lastCount[0] = count;
+                    changedAt[0] = now;
+                    return null;
+                }
+                return changedAt[0] > 0 && now - changedAt[0] >= quietMillis ? count : null;
+            });
+        } catch (TimeoutException e) {
+            // 변경 중에 제한 시간이 지나면 그때까지 로드된 개수 사용
+            return lastCount[0];
+        }
+    }
+
+    public static int awaitCountSettled(WebDriver driver, By locator, int previousCount, Duration timeout) {
+        return awaitCountSettled(driver, locator, previousCount, DEFAULT_QUIET, timeout);
+    }
+}
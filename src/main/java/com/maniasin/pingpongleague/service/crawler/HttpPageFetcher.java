@@ -0,0 +1,157 @@
+package com.maniasin.pingpongleague.service.crawler;
+
+import com.maniasin.pingpongleague.config.CrawlerConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.FormElement;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 브라우저 없이 HTML을 가져오는 HTTP 클라이언트
+ * - JavaScript 실행이 필요 없는 사이트용 (실패 시 각 크롤러가 WebDriverPool로 재시도)
+ * - 하나의 HttpClient를 공유하여 연결을 재사용(keep-alive)
+ * - gzip 응답 지원, 문자셋은 응답 헤더/meta 태그로 자동 판별
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HttpPageFetcher {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final CrawlerConfig crawlerConfig;
+
+    private HttpClient httpClient;
+
+    @PostConstruct
+    public void init() {
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(crawlerConfig.getHttpTimeoutSeconds()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    public Document get(String url) throws IOException {
+        return get(url, Map.of());
+    }
+
+    public Document get(String url, Map<String, String> cookies) throws IOException {
+        HttpRequest request = newRequest(url, cookies).GET().build();
+        return send(request);
+    }
+
+    /**
+     * application/x-www-form-urlencoded POST
+     * @param charset 폼 값 인코딩에 사용할 문자셋 (EUC-KR 페이지 대응)
+     */
+    public Document post(String url, Map<String, String> formData, Charset charset, Map<String, String> cookies) throws IOException {
+        String body = formData.entrySet().stream()
+                .map(entry -> URLEncoder.encode(entry.getKey(), charset) + "=" + URLEncoder.encode(entry.getValue(), charset))
+                .collect(Collectors.joining("&"));
+
+        HttpRequest request = newRequest(url, cookies)
+                .header("Content-Type", "application/x-www-form-urlencoded; charset=" + charset.name())
+                .POST(HttpRequest.BodyPublishers.ofString(body, charset))
+                .build();
+        return send(request);
+    }
+
+    /**
+     * 이미 받아온 페이지의 form을 그대로 제출 (hidden 필드 포함)
+     * @param values 덮어쓸 입력값
+     */
+    public Document submitForm(Document page, String formSelector, Map<String, String> values, Map<String, String> cookies) throws IOException {
+        Element element = page.selectFirst(formSelector);
+        if (!(element instanceof FormElement form)) {
+            throw new IllegalStateException("폼을 찾을 수 없습니다: " + formSelector);
+        }
+
+        Map<String, String> formData = new LinkedHashMap<>();
+        form.formData().forEach(keyVal -> formData.put(keyVal.key(), keyVal.value()));
+        formData.putAll(values);
+
+        String action = form.hasAttr("action") && !form.attr("action").isBlank() ? form.absUrl("action") : page.location();
+        Charset charset = page.charset();
+
+        if ("get".equalsIgnoreCase(form.attr("method"))) {
+            String query = formData.entrySet().stream()
+                    .map(entry -> URLEncoder.encode(entry.getKey(), charset) + "=" + URLEncoder.encode(entry.getValue(), charset))
+                    .collect(Collectors.joining("&"));
+            return get(action + (action.contains("?") ? "&" : "?") + query, cookies);
+        }
+        return post(action, formData, charset, cookies);
+    }
+
+    private HttpRequest.Builder newRequest(String url, Map<String, String> cookies) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(crawlerConfig.getHttpTimeoutSeconds()))
+                .header("User-Agent", USER_AGENT)
+                .header("Accept", "text/html,application/xhtml+xml")
+                .header("Accept-Language", "ko-KR,ko;q=0.9")
+                .header("Accept-Encoding", "gzip");
+        if (!cookies.isEmpty()) {
+            builder.header("Cookie", cookies.entrySet().stream()
+                    .map(entry -> entry.getKey() + "=" + entry.getValue())
+                    .collect(Collectors.joining("; ")));
+        }
+        return builder;
+    }
+
+    private Document send(HttpRequest request) throws IOException {
+        long start = System.currentTimeMillis();
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("HTTP 요청 중 인터럽트가 발생했습니다: " + request.uri(), e);
+        }
+
+        if (response.statusCode() >= 400) {
+            response.body().close();
+            throw new IOException("HTTP 요청 실패 (" + response.statusCode() + "): " + request.uri());
+        }
+
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        String charset = response.headers().firstValue("Content-Type")
+                .map(HttpPageFetcher::charsetOf)
+                .orElse(null);
+
+        try (InputStream body = gzip ? new GZIPInputStream(response.body()) : response.body()) {
+            Document doc = Jsoup.parse(body, charset, response.uri().toString());
+            log.debug("HTTP 페이지 수신 완료 ({}ms): {}", System.currentTimeMillis() - start, response.uri());
+            return doc;
+        }
+    }
+
+    private static String charsetOf(String contentType) {
+        for (String part : contentType.split(";")) {
+            String trimmed = part.trim();
+            if (trimmed.toLowerCase().startsWith("charset=")) {
+                return trimmed.substring("charset=".length()).replace("\"", "");
+            }
+        }
+        return null;
+    }
+}
@@ -1,42 +1,34 @@
 package com.maniasin.pingpongleague.service.crawler;
 
 import com.maniasin.pingpongleague.config.AccountProperties;
-import com.maniasin.pingpongleague.domain.AwardRecord;
+import com.maniasin.pingpongleague.config.CrawlerSiteProperties;
 import com.maniasin.pingpongleague.domain.Player;
-import com.maniasin.pingpongleague.domain.Tournament;
-import com.maniasin.pingpongleague.repository.AwardRecordRepository;
 import com.maniasin.pingpongleague.repository.PlayerRepository;
-import com.maniasin.pingpongleague.repository.TournamentRepository;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.maniasin.pingpongleague.service.crawler.parser.PingpongkingPageParser;
+import com.maniasin.pingpongleague.service.crawler.parser.ParsedPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.List;
-import java.util.Set;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PingpongkingCrawler implements SiteCrawler {
 
+    private static final String SITE_KEY = "pingpongking";
+    private static final By LOGIN_MARK = By.cssSelector("img[src='/Img/Bg/loginRightOn.png']");
+
     private final PlayerRepository playerRepository;
-    private final TournamentRepository tournamentRepository;
-    private final AwardRecordRepository awardRecordRepository;
+    private final AwardRecordWriter awardRecordWriter;
     private final AccountProperties accountProperties;
+    private final WebDriverPool webDriverPool;
+    private final SiteSessionStore sessionStore;
+    private final CrawlerSiteProperties siteProperties;
 
     @Override
     public String getSiteName() {
@@ -44,142 +36,146 @@ public class PingpongkingCrawler implements SiteCrawler {
     }
 
     @Override
-    public void scrape(String playerName) {
-        WebDriverManager.chromedriver().setup();
-        log.info("[{}] 크롤링 시작: {}", getSiteName(), playerName);
+    public String getSiteKey() {
+        return SITE_KEY;
+    }
 
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless", "--no-sandbox", "--disable-dev-shm-usage", "--disable-gpu", "--lang=ko-KR");
+    @Override
+    public void scrape(String playerName) throws Exception {
+        log.info("[{}] 크롤링 시작: {}", getSiteName(), playerName);
 
-        WebDriver driver = new ChromeDriver(options);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         int savedCount = 0;
 
-        try {
-            Player player = playerRepository.findByName(playerName)
-                    .orElseGet(() -> playerRepository.save(Player.builder().name(playerName).build()));
-
-            // --- 1. 로그인 ---
-            driver.get("http://www.pingpongking.com/loginForm.asp");
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.name("userid")));
-
-            // ▼▼▼▼▼ 아이디 입력 로직을 JavascriptExecutor로 전면 교체 ▼▼▼▼▼
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            WebElement userIdInput = driver.findElement(By.name("userid"));
-            js.executeScript("arguments[0].focus();", userIdInput);
-            js.executeScript("arguments[0].value = '';", userIdInput);
-            js.executeScript("arguments[0].value = arguments[1];", userIdInput, accountProperties.getPingpongking().getUsername());
-            js.executeScript("arguments[0].dispatchEvent(new Event('input', { bubbles: true }));", userIdInput);
-            log.info("[{}] Javascript로 아이디 입력 완료.", getSiteName());
-            // ▲▲▲▲▲ 여기까지 수정 ▲▲▲▲▲
-
-            js.executeScript("document.getElementsByName('pwd')[0].value = arguments[0];", accountProperties.getPingpongking().getPassword());
-            log.info("[{}] Javascript로 비밀번호 입력 완료.", getSiteName());
-
-            driver.findElement(By.name("frmLogin")).submit();
-            log.info("[{}] 로그인 시도...", getSiteName());
+        try (WebDriverLease lease = webDriverPool.borrow()) {
+            WebDriver driver = lease.driver();
+            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
 
             try {
-                // '성공 이미지'가 보이거나 또는 '실패 Alert'가 나타날 때까지 최대 10초 대기
-                wait.until(ExpectedConditions.or(
-                        ExpectedConditions.presenceOfElementLocated(By.cssSelector("img[src='/Img/Bg/loginRightOn.png']")),
-                        ExpectedConditions.alertIsPresent()
-                ));
-
-                // 대기가 끝난 후, Alert가 있는지 확인하여 실패 여부를 판단
-                try {
-                    Alert alert = driver.switchTo().alert();
-                    log.warn("[{}] 로그인 실패 Alert 발생: {}", getSiteName(), alert.getText());
-                    alert.accept();
-                    return; // 크롤링 중단
-                } catch (NoAlertPresentException e) {
-                    // Alert가 없으면 성공한 것이므로, 정상적으로 로그를 남기고 진행
-                    log.info("[{}] 로그인 성공.", getSiteName());
+                Player player = playerRepository.findByName(playerName)
+                        .orElseGet(() -> playerRepository.save(Player.builder().name(playerName).build()));
+
+                // --- 1. 저장된 세션으로 접속, 인증이 풀렸으면 로그인 ---
+                if (!resumeSession(driver) && !login(driver, wait)) {
+                    throw new IllegalStateException("로그인에 실패하여 크롤링을 중단합니다.");
+                }
+                JavascriptExecutor js = (JavascriptExecutor) driver;
+
+                // --- 2. 새 창 열기 및 제어권 전환 ---
+                String originalWindow = driver.getWindowHandle();
+                js.executeScript("fnOpenSearchPlayer()");
+                log.info("[{}] 'fnOpenSearchPlayer()' Javascript 함수 실행 완료.", getSiteName());
+                wait.until(ExpectedConditions.numberOfWindowsToBe(2));
+
+                for (String windowHandle : driver.getWindowHandles()) {
+                    if (!originalWindow.equals(windowHandle)) {
+                        driver.switchTo().window(windowHandle);
+                        log.info("[{}] 새로 열린 검색창으로 제어권 전환 성공.", getSiteName());
+                        break;
+                    }
                 }
 
-            } catch (TimeoutException e) {
-                // 10초 동안 성공도 실패도 감지되지 않으면 타임아웃 처리
-                log.error("[{}] 로그인 시간 초과. 성공 또는 실패를 확인할 수 없습니다.", getSiteName());
-                return;
+                // --- 3. 선수 검색 ---
+                WebElement searchInput = wait.until(ExpectedConditions.presenceOfElementLocated(By.id("idMemberName")));
+                searchInput.clear();
+                searchInput.sendKeys(playerName);
+                log.info("[{}] 검색어 '{}' 입력 완료", getSiteName(), playerName);
+
+                js.executeScript("fnSearchMember()");
+                log.info("[{}] 검색 버튼(Javascript) 클릭 완료", getSiteName());
+
+                // --- 4. 결과 테이블 로딩 대기 ---
+                wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("table.csTableBase")));
+                log.info("[{}] 검색 결과 테이블 로딩 확인", getSiteName());
+
+                // --- 5. 결과 파싱 ---
+                // 검색 결과는 한 페이지에 모두 나오므로, 파싱 실패한 행이 없으면 사이트 전체를 확인한 것
+                ParsedPage page = PingpongkingPageParser.parse(driver.getPageSource());
+                savedCount = awardRecordWriter.write(player, getSiteName(), page.getRecords(), !page.hasFailures());
+            } catch (Exception e) {
+                lease.invalidate();
+                log.error("[{}] 크롤링 중 최종 오류 발생: {}", getSiteName(), e.getMessage(), e);
+                throw e; // Circuit Breaker가 장애를 인지하도록 전파
             }
+        }
+        log.info("[{}] 크롤링 완료: {}개의 새로운 기록 저장됨", getSiteName(), savedCount);
+    }
 
+    /**
+     * 저장된 세션 쿠키를 주입하고 메인 페이지로 이동
+     * @return 로그인 상태가 확인되면 true
+     */
+    private boolean resumeSession(WebDriver driver) {
+        String account = accountProperties.getPingpongking().getUsername();
+        driver.get(baseUrl() + "/");
+        if (!sessionStore.restore(SITE_KEY, account, driver)) {
+            return false;
+        }
+        driver.get(baseUrl() + "/");
+        if (!driver.findElements(LOGIN_MARK).isEmpty()) {
+            log.info("[{}] 저장된 세션으로 로그인 생략", getSiteName());
+            return true;
+        }
+        log.info("[{}] 저장된 세션이 만료되어 다시 로그인합니다.", getSiteName());
+        sessionStore.invalidate(SITE_KEY, account);
+        driver.manage().deleteAllCookies();
+        return false;
+    }
 
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("img[src='/Img/Bg/loginRightOn.png']")));
-            log.info("[{}] 로그인 성공.", getSiteName());
-
-            // --- 2. 새 창 열기 및 제어권 전환 ---
-            String originalWindow = driver.getWindowHandle();
-            js.executeScript("fnOpenSearchPlayer()");
-            log.info("[{}] 'fnOpenSearchPlayer()' Javascript 함수 실행 완료.", getSiteName());
-            wait.until(ExpectedConditions.numberOfWindowsToBe(2));
+    private String baseUrl() {
+        return siteProperties.baseUrl(SITE_KEY);
+    }
 
-            for (String windowHandle : driver.getWindowHandles()) {
-                if (!originalWindow.equals(windowHandle)) {
-                    driver.switchTo().window(windowHandle);
-                    log.info("[{}] 새로 열린 검색창으로 제어권 전환 성공.", getSiteName());
-                    break;
-                }
-            }
+    /**
+     * 로그인 폼 제출
+     * @return 로그인 성공 시 true, 실패 Alert 또는 시간 초과 시 false
+     */
+    private boolean login(WebDriver driver, WebDriverWait wait) {
+        driver.get(baseUrl() + "/loginForm.asp");
+        wait.until(ExpectedConditions.presenceOfElementLocated(By.name("userid")));
+
+        // ▼▼▼▼▼ 아이디 입력 로직을 JavascriptExecutor로 전면 교체 ▼▼▼▼▼
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        WebElement userIdInput = driver.findElement(By.name("userid"));
+        js.executeScript("arguments[0].focus();", userIdInput);
+        js.executeScript("arguments[0].value = '';", userIdInput);
+        js.executeScript("arguments[0].value = arguments[1];", userIdInput, accountProperties.getPingpongking().getUsername());
+        js.executeScript("arguments[0].dispatchEvent(new Event('input', { bubbles: true }));", userIdInput);
+        log.info("[{}] Javascript로 아이디 입력 완료.", getSiteName());
+        // ▲▲▲▲▲ 여기까지 수정 ▲▲▲▲▲
+
+        js.executeScript("document.getElementsByName('pwd')[0].value = arguments[0];", accountProperties.getPingpongking().getPassword());
+        log.info("[{}] Javascript로 비밀번호 입력 완료.", getSiteName());
+
+        driver.findElement(By.name("frmLogin")).submit();
+        log.info("[{}] 로그인 시도...", getSiteName());
 
-            // --- 3. 선수 검색 ---
-            WebElement searchInput = wait.until(ExpectedConditions.presenceOfElementLocated(By.id("idMemberName")));
-            searchInput.clear();
-            searchInput.sendKeys(playerName);
-            log.info("[{}] 검색어 '{}' 입력 완료", getSiteName(), playerName);
-
-            js.executeScript("fnSearchMember()");
-            log.info("[{}] 검색 버튼(Javascript) 클릭 완료", getSiteName());
-
-            // --- 4. 결과 테이블 로딩 대기 ---
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("table.csTableBase")));
-            log.info("[{}] 검색 결과 테이블 로딩 확인", getSiteName());
-
-            // --- 5. 결과 파싱 ---
-            Document doc = Jsoup.parse(driver.getPageSource());
-            Elements rows = doc.select("table.csTableBase tr");
-            List<String> prizedPlacings = List.of("1위", "2위", "3위");
-
-            for (Element row : rows) {
-                if (row.select("th").size() > 0) continue;
-                Elements cells = row.select("td");
-                if (cells.size() < 7) continue;
-
-                try {
-                    String placing = cells.get(6).text().trim();
-                    if (placing.isEmpty() || prizedPlacings.stream().noneMatch(placing::contains)) {
-                        continue;
-                    }
+        try {
+            // '성공 이미지'가 보이거나 또는 '실패 Alert'가 나타날 때까지 최대 10초 대기
+            wait.until(ExpectedConditions.or(
+                    ExpectedConditions.presenceOfElementLocated(LOGIN_MARK),
+                    ExpectedConditions.alertIsPresent()
+            ));
 
-                    String dateStr = cells.get(0).text().trim();
-                    String tournamentName = cells.get(1).text().trim();
-                    String division = cells.get(2).text().trim();
-                    String detail = cells.get(4).text().trim();
+            // 대기가 끝난 후, Alert가 있는지 확인하여 실패 여부를 판단
+            try {
+                Alert alert = driver.switchTo().alert();
+                log.warn("[{}] 로그인 실패 Alert 발생: {}", getSiteName(), alert.getText());
+                alert.accept();
+                return false;
+            } catch (NoAlertPresentException e) {
+                // Alert가 없으면 성공한 것이므로, 정상적으로 로그를 남기고 진행
+            }
 
-                    LocalDate tournamentDate = LocalDate.parse(dateStr, DateTimeFormatter.ofPattern("yy.MM.dd"));
+        } catch (TimeoutException e) {
+            // 10초 동안 성공도 실패도 감지되지 않으면 타임아웃 처리
+            log.error("[{}] 로그인 시간 초과. 성공 또는 실패를 확인할 수 없습니다.", getSiteName());
+            return false;
+        }
 
-                    Tournament tournament = tournamentRepository.findByNameAndTournamentDate(tournamentName, tournamentDate)
-                            .orElseGet(() -> tournamentRepository.save(Tournament.builder()
-                                    .name(tournamentName).tournamentDate(tournamentDate).organizer(getSiteName()).build()));
 
-                    if (!awardRecordRepository.existsByPlayerIdAndTournamentIdAndDivisionAndPlacing(
-                            player.getId(), tournament.getId(), division, placing)) {
-                        AwardRecord record = AwardRecord.builder()
-                                .player(player).tournament(tournament).division(division).detail(detail).placing(placing)
-                                .build();
-                        awardRecordRepository.save(record);
-                        savedCount++;
-                    }
-                } catch (Exception e) {
-                    log.error("[{}] 행 처리 중 오류 발생: {}", getSiteName(), row.html(), e);
-                }
-            }
-        } catch (Exception e) {
-            log.error("[{}] 크롤링 중 최종 오류 발생: {}", getSiteName(), e.getMessage(), e);
-        } finally {
-            if (driver != null) {
-                driver.quit();
-            }
-        }
-        log.info("[{}] 크롤링 완료: {}개의 새로운 기록 저장됨", getSiteName(), savedCount);
+        wait.until(ExpectedConditions.presenceOfElementLocated(LOGIN_MARK));
+        log.info("[{}] 로그인 성공.", getSiteName());
+        sessionStore.capture(SITE_KEY, accountProperties.getPingpongking().getUsername(), driver);
+        return true;
     }
 }
\ No newline at end of file
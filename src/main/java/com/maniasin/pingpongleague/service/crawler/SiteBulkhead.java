@@ -0,0 +1,154 @@
+package com.maniasin.pingpongleague.service.crawler;
+
+import com.maniasin.pingpongleague.config.CrawlerConfig;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 사이트별 동시 크롤링 제한 (Bulkhead)
+ * - 사이트마다 별도의 허용 수(crawler.bulkhead.permits.{siteKey})와 대기열을 가짐
+ * - 느린 사이트가 허용 수를 다 써도 다른 사이트 크롤링은 영향을 받지 않음
+ * - 대기는 스레드를 점유하지 않는 CompletableFuture로 처리
+ * - 대기열이 가득 차거나 최대 대기 시간을 넘기면 BulkheadFullException으로 완료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SiteBulkhead {
+
+    private final CrawlerConfig crawlerConfig;
+    private final Environment environment;
+
+    private final Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+    /**
+     * 사이트 허용 획득
+     * - 획득하면 반드시 release(siteKey) 호출
+     */
+    public CompletableFuture<Void> acquire(String siteKey) {
+        return compartment(siteKey).acquire();
+    }
+
+    public void release(String siteKey) {
+        compartment(siteKey).release();
+    }
+
+    public Map<String, Stats> getStats() {
+        return compartments.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().stats()));
+    }
+
+    private Compartment compartment(String siteKey) {
+        return compartments.computeIfAbsent(siteKey, key -> {
+            int permits = Math.max(1, environment.getProperty(
+                    "crawler.bulkhead.permits." + key, Integer.class, crawlerConfig.getBulkheadDefaultPermits()));
+            int queueCapacity = crawlerConfig.getBulkheadQueueCapacity();
+            int maxWaitSeconds = crawlerConfig.getBulkheadMaxWaitSeconds();
+            log.info("[{}] Bulkhead 초기화: 동시 {}개, 대기열 {}개, 최대 대기 {}초", key, permits, queueCapacity, maxWaitSeconds);
+            return new Compartment(key, permits, queueCapacity, maxWaitSeconds);
+        });
+    }
+
+    private static class Compartment {
+        private final String siteKey;
+        private final int maxPermits;
+        private final int queueCapacity;
+        private final int maxWaitSeconds;
+
+        private int available;
+        private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+        private long rejectedCount = 0;
+
+        Compartment(String siteKey, int maxPermits, int queueCapacity, int maxWaitSeconds) {
+            this.siteKey = siteKey;
+            this.maxPermits = maxPermits;
+            this.queueCapacity = queueCapacity;
+            this.maxWaitSeconds = maxWaitSeconds;
+            this.available = maxPermits;
+        }
+
+        synchronized CompletableFuture<Void> acquire() {
+            if (available > 0) {
+                available--;
+                return CompletableFuture.completedFuture(null);
+            }
+            if (waiters.size() >= queueCapacity) {
+                rejectedCount++;
+                return CompletableFuture.failedFuture(new BulkheadFullException(siteKey + " 대기열이 가득 찼습니다."));
+            }
+
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            waiters.addLast(waiter);
+            // 최대 대기 시간이 지나도 허용을 받지 못했으면 대기열 초과와 같은 예외로 완료 (이미 허용을 받았으면 무시됨)
+            CompletableFuture.delayedExecutor(maxWaitSeconds, TimeUnit.SECONDS).execute(() -> {
+                if (waiter.completeExceptionally(new BulkheadFullException(
+                        siteKey + " 허용 대기 시간(" + maxWaitSeconds + "초)을 초과했습니다."))) {
+                    removeTimedOut(waiter);
+                }
+            });
+            return waiter;
+        }
+
+        void release() {
+            while (true) {
+                CompletableFuture<Void> waiter;
+                synchronized (this) {
+                    waiter = waiters.pollFirst();
+                    if (waiter == null) {
+                        available = Math.min(available + 1, maxPermits);
+                        return;
+                    }
+                }
+                // 대기자의 후속 작업이 잠금 안에서 실행되지 않도록 잠금 밖에서 완료
+                if (waiter.complete(null)) {
+                    return;
+                }
+                // 그 사이 대기 시간이 초과된 대기자면 다음 대기자에게 넘김
+            }
+        }
+
+        private synchronized void removeTimedOut(CompletableFuture<Void> waiter) {
+            waiters.remove(waiter);
+            rejectedCount++;
+        }
+
+        synchronized Stats stats() {
+            return Stats.builder()
+                    .maxPermits(maxPermits)
+                    .available(available)
+                    .waiting(waiters.size())
+                    .rejected(rejectedCount)
+                    .build();
+        }
+    }
+
+    /**
+     * 대기열 초과 또는 대기 시간 초과
+     */
+    public static class BulkheadFullException extends RuntimeException {
+        public BulkheadFullException(String message) {
+            super(message);
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class Stats {
+        private final int maxPermits;
+        private final int available;
+        private final int waiting;
+        private final long rejected;
+    }
+}
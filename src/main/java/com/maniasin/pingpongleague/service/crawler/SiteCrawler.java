@@ -2,5 +2,10 @@ package com.maniasin.pingpongleague.service.crawler;
 
 public interface SiteCrawler {
     String getSiteName();
+
+    /**
+     * 설정 키 등에 쓰는 사이트 식별자 (영문 소문자)
+     */
+    String getSiteKey();
     void scrape(String playerName) throws Exception;
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.maniasin.pingpongleague.service.crawler;
+
+import com.maniasin.pingpongleague.config.CrawlerConfig;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 로그인이 필요한 사이트(아이핑, 탁구왕)의 세션 쿠키 저장소
+ * - 사이트 + 계정 단위로 로그인 성공 후의 쿠키를 보관
+ * - 다음 크롤링 시 쿠키를 다시 주입하여 로그인 과정을 생략
+ * - 인증이 풀린 것이 확인되면 invalidate() 후 다시 로그인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SiteSessionStore {
+
+    private final CrawlerConfig crawlerConfig;
+
+    private final Map<String, StoredSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 유효한(만료되지 않은) 세션 쿠키 조회
+     */
+    public Optional<List<SessionCookie>> find(String siteKey, String account) {
+        String key = key(siteKey, account);
+        StoredSession session = sessions.get(key);
+        if (session == null) {
+            return Optional.empty();
+        }
+        if (session.isExpired(Duration.ofMinutes(crawlerConfig.getSessionTtlMinutes()))) {
+            sessions.remove(key, session);
+            log.debug("[{}] 세션 쿠키 만료로 삭제", siteKey);
+            return Optional.empty();
+        }
+        return Optional.of(session.getCookies());
+    }
+
+    public void save(String siteKey, String account, List<SessionCookie> cookies) {
+        if (cookies.isEmpty()) {
+            return;
+        }
+        sessions.put(key(siteKey, account), new StoredSession(List.copyOf(cookies)));
+        log.info("[{}] 로그인 세션 쿠키 {}개 저장", siteKey, cookies.size());
+    }
+
+    public void invalidate(String siteKey, String account) {
+        if (sessions.remove(key(siteKey, account)) != null) {
+            log.info("[{}] 로그인 세션 무효화", siteKey);
+        }
+    }
+
+    /**
+     * 로그인에 성공한 WebDriver의 쿠키를 저장
+     */
+    public void capture(String siteKey, String account, WebDriver driver) {
+        List<SessionCookie> cookies = driver.manage().getCookies().stream()
+                .map(SessionCookie::from)
+                .collect(Collectors.toList());
+        save(siteKey, account, cookies);
+    }
+
+    /**
+     * 저장된 쿠키를 WebDriver에 주입
+     * - 쿠키 도메인의 페이지가 먼저 열려 있어야 함
+     * @return 주입할 세션이 있었으면 true
+     */
+    public boolean restore(String siteKey, String account, WebDriver driver) {
+        Optional<List<SessionCookie>> cookies = find(siteKey, account);
+        if (cookies.isEmpty()) {
+            return false;
+        }
+        for (SessionCookie cookie : cookies.get()) {
+            try {
+                driver.manage().addCookie(cookie.toSeleniumCookie());
+            } catch (Exception e) {
+                log.debug("[{}] 쿠키 주입 실패: {} ({})", siteKey, cookie.getName(), e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private String key(String siteKey, String account) {
+        return siteKey + ":" + account;
+    }
+
+    @Getter
+    private static class StoredSession {
+        private final List<SessionCookie> cookies;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+
+        StoredSession(List<SessionCookie> cookies) {
+            this.cookies = cookies;
+        }
+
+        boolean isExpired(Duration ttl) {
+            if (LocalDateTime.now().isAfter(createdAt.plus(ttl))) {
+                return true;
+            }
+            Date now = new Date();
+            return cookies.stream().anyMatch(cookie -> cookie.getExpiry() != null && cookie.getExpiry().before(now));
+        }
+    }
+
+    /**
+     * Selenium Cookie와 독립적인 세션 쿠키 표현
+     */
+    @Getter
+    public static class SessionCookie {
+        private final String name;
+        private final String value;
+        private final String domain;
+        private final String path;
+        private final Date expiry;
+        private final boolean secure;
+        private final boolean httpOnly;
+
+        public SessionCookie(String name, String value, String domain, String path, Date expiry, boolean secure, boolean httpOnly) {
+            this.name = name;
+            this.value = value;
+            this.domain = domain;
+            this.path = path;
+            this.expiry = expiry;
+            this.secure = secure;
+            this.httpOnly = httpOnly;
+        }
+
+        static SessionCookie from(Cookie cookie) {
+            return new SessionCookie(cookie.getName(), cookie.getValue(), cookie.getDomain(), cookie.getPath(),
+                    cookie.getExpiry(), cookie.isSecure(), cookie.isHttpOnly());
+        }
+
+        Cookie toSeleniumCookie() {
+            return new Cookie.Builder(name, value)
+                    .domain(domain)
+                    .path(path)
+                    .expiresOn(expiry)
+                    .isSecure(secure)
+                    .isHttpOnly(httpOnly)
+                    .build();
+        }
+    }
+}
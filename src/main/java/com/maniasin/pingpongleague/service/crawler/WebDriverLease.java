@@ -0,0 +1,38 @@
+package com.maniasin.pingpongleague.service.crawler;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * WebDriverPool에서 빌린 WebDriver
+ * - try-with-resources로 사용하면 close() 시 자동으로 풀에 반납됨
+ * - 크롤링 중 오류가 발생하면 invalidate()를 호출하여 재사용되지 않도록 함
+ */
+public class WebDriverLease implements AutoCloseable {
+
+    private final WebDriverPool pool;
+    private final WebDriverPool.PooledWebDriver pooled;
+    private boolean invalidated = false;
+    private boolean closed = false;
+
+    WebDriverLease(WebDriverPool pool, WebDriverPool.PooledWebDriver pooled) {
+        this.pool = pool;
+        this.pooled = pooled;
+    }
+
+    public WebDriver driver() {
+        return pooled.getDriver();
+    }
+
+    public void invalidate() {
+        this.invalidated = true;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pool.release(pooled, invalidated);
+    }
+}
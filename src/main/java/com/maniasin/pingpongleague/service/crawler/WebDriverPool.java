@@ -0,0 +1,333 @@
+package com.maniasin.pingpongleague.service.crawler;
+
+import com.maniasin.pingpongleague.config.CrawlerConfig;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크롤러들이 공유하는 Headless Chrome WebDriver 풀
+ * - 매 조회마다 브라우저를 새로 띄우지 않고 재사용하여 기동 시간 및 메모리 사용량 절감
+ * - 최대 개수 제한 (crawler.webdriver.pool-size)
+ * - 대여 시 상태 검사, 최대 사용 횟수/수명 초과 시 교체
+ * - 반납 시 쿠키/창 상태 초기화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebDriverPool {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final CrawlerConfig crawlerConfig;
+
+    // 최근에 반납된 드라이버를 앞쪽에 두어(LIFO) 자주 쓰이는 드라이버는 따뜻하게, 나머지는 유휴 만료되도록 함
+    private final BlockingDeque<PooledWebDriver> idleDrivers = new LinkedBlockingDeque<>();
+    private Semaphore permits;
+    private volatile boolean driverBinaryReady = false;
+    private volatile boolean closed = false;
+
+    // --- 메트릭 ---
+    private final AtomicInteger activeCount = new AtomicInteger(0);
+    private final AtomicLong createdCount = new AtomicLong(0);
+    private final AtomicLong destroyedCount = new AtomicLong(0);
+    private final AtomicLong borrowCount = new AtomicLong(0);
+    private final AtomicLong reuseCount = new AtomicLong(0);
+    private final AtomicLong borrowTimeoutCount = new AtomicLong(0);
+    private final AtomicLong healthCheckFailureCount = new AtomicLong(0);
+    private final AtomicLong totalBorrowWaitMillis = new AtomicLong(0);
+    private final AtomicLong totalLeaseMillis = new AtomicLong(0);
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(crawlerConfig.getWebDriverPoolSize(), true);
+        log.info("WebDriver 풀 초기화: 최대 {}개, 최대 사용 {}회, 최대 수명 {}분",
+                crawlerConfig.getWebDriverPoolSize(),
+                crawlerConfig.getWebDriverMaxUses(),
+                crawlerConfig.getWebDriverMaxAgeMinutes());
+    }
+
+    /**
+     * 풀에서 WebDriver를 빌림
+     * - 사용 후 반드시 close() 해야 함 (try-with-resources 권장)
+     * - 유휴 드라이버가 없고 최대 개수에 도달했으면 반납될 때까지 대기
+     */
+    public WebDriverLease borrow() {
+        if (closed) {
+            throw new IllegalStateException("WebDriver 풀이 종료되었습니다.");
+        }
+
+        long waitStart = System.currentTimeMillis();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(crawlerConfig.getWebDriverBorrowTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("WebDriver 대기 중 인터럽트가 발생했습니다.", e);
+        }
+        if (!acquired) {
+            borrowTimeoutCount.incrementAndGet();
+            throw new IllegalStateException("사용 가능한 WebDriver가 없습니다. (대기 시간 초과)");
+        }
+        totalBorrowWaitMillis.addAndGet(System.currentTimeMillis() - waitStart);
+
+        try {
+            PooledWebDriver pooled = pollReusable();
+            if (pooled == null) {
+                pooled = create();
+            } else {
+                reuseCount.incrementAndGet();
+            }
+            pooled.markBorrowed();
+            borrowCount.incrementAndGet();
+            activeCount.incrementAndGet();
+            return new WebDriverLease(this, pooled);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * WebDriverLease.close()에서 호출
+     * @param broken 크롤링 도중 오류가 발생하여 재사용하면 안 되는 경우 true
+     */
+    void release(PooledWebDriver pooled, boolean broken) {
+        try {
+            if (closed || broken) {
+                destroy(pooled, broken ? "오류 발생" : "풀 종료");
+            } else if (pooled.getUseCount() >= crawlerConfig.getWebDriverMaxUses()) {
+                destroy(pooled, "최대 사용 횟수 도달");
+            } else if (isExpired(pooled)) {
+                destroy(pooled, "최대 수명 초과");
+            } else if (!resetState(pooled)) {
+                destroy(pooled, "상태 초기화 실패");
+            } else {
+                pooled.markReturned();
+                idleDrivers.offerFirst(pooled);
+            }
+        } finally {
+            totalLeaseMillis.addAndGet(System.currentTimeMillis() - pooled.getBorrowedAt());
+            activeCount.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    /**
+     * 유휴 시간이 오래된 드라이버 정리 (메모리 반환)
+     */
+    @Scheduled(fixedDelayString = "${crawler.webdriver.evict-interval-ms:60000}")
+    public void evictIdleDrivers() {
+        long idleTimeoutMillis = Duration.ofMinutes(crawlerConfig.getWebDriverIdleTimeoutMinutes()).toMillis();
+        long now = System.currentTimeMillis();
+        List<PooledWebDriver> evicted = new ArrayList<>();
+
+        Iterator<PooledWebDriver> iterator = idleDrivers.descendingIterator();
+        while (iterator.hasNext()) {
+            PooledWebDriver pooled = iterator.next();
+            if (now - pooled.getLastReturnedAt() >= idleTimeoutMillis || isExpired(pooled)) {
+                if (idleDrivers.removeLastOccurrence(pooled)) {
+                    evicted.add(pooled);
+                }
+            }
+        }
+        evicted.forEach(pooled -> destroy(pooled, "유휴 시간 초과"));
+        if (!evicted.isEmpty()) {
+            log.info("유휴 WebDriver {}개 정리 완료. 현재 유휴: {}개", evicted.size(), idleDrivers.size());
+        }
+    }
+
+    public Stats getStats() {
+        return Stats.builder()
+                .maxSize(crawlerConfig.getWebDriverPoolSize())
+                .active(activeCount.get())
+                .idle(idleDrivers.size())
+                .waiting(permits.getQueueLength())
+                .created(createdCount.get())
+                .destroyed(destroyedCount.get())
+                .borrowed(borrowCount.get())
+                .reused(reuseCount.get())
+                .borrowTimeouts(borrowTimeoutCount.get())
+                .healthCheckFailures(healthCheckFailureCount.get())
+                .averageBorrowWaitMillis(borrowCount.get() == 0 ? 0 : totalBorrowWaitMillis.get() / borrowCount.get())
+                .totalLeaseMillis(totalLeaseMillis.get())
+                .build();
+    }
+
+    /**
+     * 반납된 대여 건들의 누적 브라우저 사용 시간 (ms)
+     */
+    public long getTotalLeaseMillis() {
+        return totalLeaseMillis.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        PooledWebDriver pooled;
+        while ((pooled = idleDrivers.pollFirst()) != null) {
+            destroy(pooled, "애플리케이션 종료");
+        }
+        log.info("WebDriver 풀 종료 완료. {}", getStats());
+    }
+
+    private PooledWebDriver pollReusable() {
+        PooledWebDriver pooled;
+        while ((pooled = idleDrivers.pollFirst()) != null) {
+            if (isExpired(pooled)) {
+                destroy(pooled, "최대 수명 초과");
+            } else if (!isHealthy(pooled)) {
+                healthCheckFailureCount.incrementAndGet();
+                destroy(pooled, "상태 검사 실패");
+            } else {
+                return pooled;
+            }
+        }
+        return null;
+    }
+
+    private PooledWebDriver create() {
+        ensureDriverBinary();
+
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless", "--no-sandbox", "--disable-dev-shm-usage", "--disable-gpu");
+        options.addArguments("--lang=ko-KR");
+        options.addArguments("--window-size=1920,1080");
+        options.addArguments("user-agent=" + USER_AGENT);
+
+        long start = System.currentTimeMillis();
+        WebDriver driver = new ChromeDriver(options);
+        createdCount.incrementAndGet();
+        log.info("새 WebDriver 생성 완료 ({}ms). 누적 생성: {}개", System.currentTimeMillis() - start, createdCount.get());
+        return new PooledWebDriver(driver);
+    }
+
+    private void ensureDriverBinary() {
+        if (driverBinaryReady) {
+            return;
+        }
+        synchronized (this) {
+            if (!driverBinaryReady) {
+                WebDriverManager.chromedriver().setup();
+                driverBinaryReady = true;
+            }
+        }
+    }
+
+    private boolean isExpired(PooledWebDriver pooled) {
+        long maxAgeMillis = Duration.ofMinutes(crawlerConfig.getWebDriverMaxAgeMinutes()).toMillis();
+        return System.currentTimeMillis() - pooled.getCreatedAt() >= maxAgeMillis;
+    }
+
+    private boolean isHealthy(PooledWebDriver pooled) {
+        try {
+            pooled.getDriver().getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            log.warn("WebDriver 상태 검사 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 다음 사용자를 위해 브라우저 상태 초기화
+     * - 추가로 열린 창 닫기, 모든 쿠키 삭제, 빈 페이지로 이동
+     */
+    private boolean resetState(PooledWebDriver pooled) {
+        WebDriver driver = pooled.getDriver();
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (int i = 1; i < handles.size(); i++) {
+                driver.switchTo().window(handles.get(i));
+                driver.close();
+            }
+            driver.switchTo().window(handles.get(0));
+            if (driver instanceof ChromeDriver chromeDriver) {
+                chromeDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            log.warn("WebDriver 상태 초기화 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void destroy(PooledWebDriver pooled, String reason) {
+        try {
+            pooled.getDriver().quit();
+        } catch (Exception e) {
+            log.warn("WebDriver 종료 중 오류: {}", e.getMessage());
+        }
+        destroyedCount.incrementAndGet();
+        log.debug("WebDriver 폐기 ({}): 사용 {}회", reason, pooled.getUseCount());
+    }
+
+    @Getter
+    static class PooledWebDriver {
+        private final WebDriver driver;
+        private final long createdAt = System.currentTimeMillis();
+        private volatile long lastReturnedAt = System.currentTimeMillis();
+        private volatile int useCount = 0;
+        private volatile long borrowedAt = 0;
+
+        PooledWebDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        void markBorrowed() {
+            useCount++;
+            borrowedAt = System.currentTimeMillis();
+        }
+
+        void markReturned() {
+            lastReturnedAt = System.currentTimeMillis();
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class Stats {
+        private final int maxSize;
+        private final int active;
+        private final int idle;
+        private final int waiting;
+        private final long created;
+        private final long destroyed;
+        private final long borrowed;
+        private final long reused;
+        private final long borrowTimeouts;
+        private final long healthCheckFailures;
+        private final long averageBorrowWaitMillis;
+        private final long totalLeaseMillis;
+
+        @Override
+        public String toString() {
+            return String.format("active=%d, idle=%d, waiting=%d, created=%d, destroyed=%d, borrowed=%d, reused=%d",
+                    active, idle, waiting, created, destroyed, borrowed, reused);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.maniasin.pingpongleague.service.crawler.parser;
+
+import com.maniasin.pingpongleague.dto.CrawledRecordDto;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 에어핑 선수 검색 결과 페이지 → 입상 기록
+ * - 브라우저 없이 저장된 페이지 소스만으로 호출 가능
+ */
+@Slf4j
+public final class AirpingPageParser {
+
+    private static final String SITE_NAME = "에어핑";
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+
+    // 페이지 구조가 조금씩 다른 경우를 대비해 구체적인 선택자부터 시도
+    private static final String[] BLOCK_SELECTORS = {
+            "._mc_result_div ul.player_cont_body > li._mc_div:not(._vc_fixed)",
+            "._mc_result_div ul.player_cont_body > li._mc_div",
+            "ul.player_cont_body > li._mc_div:not(._vc_fixed)",
+            "ul.player_cont_body > li._mc_div",
+            ".player_cont_body li._mc_div:not(._vc_fixed)",
+            ".player_cont_body li._mc_div",
+            "li._mc_div:not(._vc_fixed)",
+            "li._mc_div"
+    };
+
+    private AirpingPageParser() {
+    }
+
+    public static ParsedPage parse(String html) {
+        return parse(Jsoup.parse(html));
+    }
+
+    public static ParsedPage parse(Document doc) {
+        Elements tournamentBlocks = findBlocks(doc);
+        if (tournamentBlocks == null) {
+            log.warn("[{}] 실제 대회 정보 블록을 찾을 수 없습니다.", SITE_NAME);
+            return new ParsedPage(List.of(), 0, 0);
+        }
+
+        List<CrawledRecordDto> records = new ArrayList<>();
+        int failedRows = 0;
+        for (int i = 0; i < tournamentBlocks.size(); i++) {
+            Element block = tournamentBlocks.get(i);
+
+            if (block.hasClass("_vc_fixed") || !block.select(".play_date_none").isEmpty() || !block.select("._cc_view_more_btn").isEmpty()) {
+                log.debug("[{}] 블록 {} 건너뛰기 (빈 데이터 또는 더보기 버튼)", SITE_NAME, i);
+                continue;
+            }
+
+            try {
+                String tournamentName = block.select(".player_inner4 .player_box a").text().trim();
+                if (tournamentName.isEmpty()) {
+                    tournamentName = block.select(".player_inner4 .game_match_wrap").text().trim();
+                }
+                String dateStr = normalizeDateText(block.select(".player_inner5 .player_box").text());
+
+                log.debug("[{}] 최종 대회명: '{}', 날짜: '{}'", SITE_NAME, tournamentName, dateStr);
+                if (tournamentName.isEmpty() || dateStr.isEmpty()) {
+                    log.debug("[{}] 대회명 또는 날짜가 비어있어 건너뜁니다.", SITE_NAME);
+                    continue;
+                }
+                LocalDate tournamentDate = parseDate(dateStr);
+
+                Elements prizedRecords = block.select("li._mc_player_result._mc_res_prized");
+                log.debug("[{}] 입상 기록 {}개 발견", SITE_NAME, prizedRecords.size());
+
+                for (Element recordRow : prizedRecords) {
+                    String placing = recordRow.select(".game_result").text().trim();
+                    String divisionText = recordRow.select(".sear_game_type").text().replace("[", "").replace("]", "").trim(); // "단체전"
+
+                    Element tempRow = recordRow.clone();
+                    tempRow.select(".game_result, .sear_game_type").remove(); // 성적과 종목 태그 모두 제거
+                    String detailText = tempRow.text().trim(); // "지역 혼성 7~8부"
+
+                    records.add(CrawledRecordDto.builder()
+                            .tournamentName(tournamentName)
+                            .tournamentDate(tournamentDate)
+                            .division(divisionText) // 분리된 '종목' 저장
+                            .detail(detailText)     // 분리된 '상세 부수' 저장
+                            .placing(placing)
+                            .build());
+                }
+            } catch (DateTimeParseException e) {
+                log.error("[{}] 날짜 파싱 실패", SITE_NAME, e);
+                failedRows++;
+            }
+        }
+        return new ParsedPage(records, tournamentBlocks.size(), failedRows);
+    }
+
+    /**
+     * "2024.05.01 ~ 2024.05.02" 같은 기간은 시작일만 사용
+     */
+    public static String normalizeDateText(String dateText) {
+        String trimmed = dateText.trim();
+        int tilde = trimmed.indexOf('~');
+        return tilde >= 0 ? trimmed.substring(0, tilde).trim() : trimmed;
+    }
+
+    public static LocalDate parseDate(String dateStr) {
+        return LocalDate.parse(dateStr, DATE_FORMAT);
+    }
+
+    private static Elements findBlocks(Document doc) {
+        for (String selector : BLOCK_SELECTORS) {
+            Elements found = doc.select(selector);
+            // placeholder가 아닌 실제 데이터가 있는 경우만 선택
+            if (found.stream().anyMatch(el -> !el.hasClass("_vc_fixed"))) {
+                log.info("[{}] 선택자 '{}'로 {}개의 블록을 찾았습니다.", SITE_NAME, selector, found.size());
+                return found;
+            }
+        }
+        return null;
+    }
+}
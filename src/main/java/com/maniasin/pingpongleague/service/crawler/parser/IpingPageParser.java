@@ -0,0 +1,120 @@
+package com.maniasin.pingpongleague.service.crawler.parser;
+
+import com.maniasin.pingpongleague.dto.CrawledRecordDto;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 아이핑 선수 검색 결과 페이지 → 입상 기록
+ * - 브라우저 없이 저장된 페이지 소스만으로 호출 가능
+ */
+@Slf4j
+public final class IpingPageParser {
+
+    private static final String SITE_NAME = "아이핑";
+    private static final Pattern DATE_PATTERN = Pattern.compile("(\\d{4}년 \\d{2}월 \\d{2}일)");
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일");
+
+    private IpingPageParser() {
+    }
+
+    public static ParsedPage parse(String html) {
+        return parse(Jsoup.parse(html));
+    }
+
+    public static ParsedPage parse(Document doc) {
+        Document docToSearch;
+        Element innerHtmlContainer = doc.selectFirst("td:has(html)");
+        if (innerHtmlContainer != null) {
+            log.info("[{}] 중첩된 HTML 구조를 발견하여 내부 문서를 파싱합니다.", SITE_NAME);
+            docToSearch = Jsoup.parse(innerHtmlContainer.html());
+        } else {
+            log.info("[{}] 중첩된 HTML 구조가 없어 기본 문서에서 검색합니다.", SITE_NAME);
+            docToSearch = doc;
+        }
+
+        Element resultTable = docToSearch.selectFirst("table.text14:has(td:contains(입상이력))");
+        if (resultTable == null) {
+            log.info("[{}] 입상 이력 테이블을 찾을 수 없습니다.", SITE_NAME);
+            return new ParsedPage(List.of(), 0, 0);
+        }
+
+        Elements awardRows = resultTable.select("tr[style='background:#ffffff;']");
+        log.info("[{}] 검색 결과 행 {}건 발견", SITE_NAME, awardRows.size());
+
+        List<CrawledRecordDto> records = new ArrayList<>();
+        int failedRows = 0;
+        for (Element row : awardRows) {
+            Elements cells = row.select("td");
+            if (cells.size() != 2) {
+                log.info("[{}] 입상 기록 행이 아니므로 건너뜁니다: {}", SITE_NAME, row.text());
+                continue;
+            }
+
+            Element block = cells.get(1);
+            try {
+                String tournamentName = Optional.ofNullable(block.selectFirst("b:contains(회)"))
+                        .map(Element::text).orElse("").trim();
+
+                String dateText = Optional.ofNullable(block.selectFirst("span.text14"))
+                        .map(Element::text).orElse("");
+                String dateStr = extractDate(dateText);
+                if (dateStr == null) {
+                    log.warn("[{}] 날짜 패턴이 맞지 않아 건너뜁니다. 날짜 텍스트: '{}'", SITE_NAME, dateText);
+                    continue;
+                }
+
+                Element linkElement = block.selectFirst("span.btn_white_gray > a[href*='/?pg=CVR']");
+                String division = "";
+                String placing = "";
+                if (linkElement != null) {
+                    Element placingElement = linkElement.selectFirst("b:contains(우승), b:contains(준우승), b:contains(3위), img[src*='rr2.png']");
+                    if (placingElement != null) {
+                        placing = placingElement.tagName().equals("img") ? "준우승" : placingElement.text().trim();
+                        division = linkElement.text().replace(placing, "").trim();
+                    } else {
+                        division = linkElement.text().trim();
+                    }
+                }
+
+                if (tournamentName.isEmpty() || placing.isEmpty() || division.isEmpty()) {
+                    log.warn("[{}] 필수 정보(대회명, 날짜, 성적, 부서) 중 누락된 항목이 있어 건너뜁니다. 대회명: '{}', 날짜: '{}', 성적: '{}', 부서: '{}'", SITE_NAME, tournamentName, dateStr, placing, division);
+                    continue;
+                }
+
+                records.add(CrawledRecordDto.builder()
+                        .tournamentName(tournamentName).tournamentDate(parseDate(dateStr))
+                        .division(division).detail("").placing(placing)
+                        .build());
+            } catch (Exception e) {
+                log.error("[{}] 결과 블록 처리 중 예측하지 못한 오류 발생: {}", SITE_NAME, block.html(), e);
+                failedRows++;
+            }
+        }
+        return new ParsedPage(records, awardRows.size(), failedRows);
+    }
+
+    /**
+     * "... 2024년 05월 01일 ..." 에서 날짜 부분만 추출
+     * @return 날짜가 없으면 null
+     */
+    public static String extractDate(String dateText) {
+        Matcher matcher = DATE_PATTERN.matcher(dateText);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    public static LocalDate parseDate(String dateStr) {
+        return LocalDate.parse(dateStr, DATE_FORMAT);
+    }
+}
@@ -0,0 +1,76 @@
+package com.maniasin.pingpongleague.service.crawler.parser;
+
+import com.maniasin.pingpongleague.dto.CrawledRecordDto;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 코리아탁구 개인별 결과 페이지 → 입상 기록
+ * - 브라우저 없이 저장된 페이지 소스만으로 호출 가능
+ */
+@Slf4j
+public final class KoreaTakguPageParser {
+
+    private static final String SITE_NAME = "코리아탁구";
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    // 입상으로 보는 성적 (나머지 기록은 건너뜀)
+    private static final Set<String> PRIZED_PLACINGS = Set.of("우승", "준우승", "4강");
+
+    private KoreaTakguPageParser() {
+    }
+
+    public static ParsedPage parse(String html) {
+        return parse(Jsoup.parse(html));
+    }
+
+    public static ParsedPage parse(Document doc) {
+        Elements rows = doc.select("div:contains(탁구대회 성적) + table tr");
+
+        List<CrawledRecordDto> records = new ArrayList<>();
+        int failedRows = 0;
+        for (Element row : rows) {
+            if (row.text().contains("대회일자")) {
+                continue;
+            }
+            Elements cells = row.select("td");
+            if (cells.size() < 5) continue;
+
+            try {
+                String placing = cells.get(4).text().trim();
+                if (!PRIZED_PLACINGS.contains(placing)) {
+                    continue;
+                }
+
+                String dateStr = cells.get(1).text().trim();
+                String tournamentName = cells.get(2).text().trim();
+                String division = cells.get(3).text().trim();
+
+                records.add(CrawledRecordDto.builder()
+                        .tournamentName(tournamentName).tournamentDate(parseDate(dateStr))
+                        .division(division).detail("").placing(placing)
+                        .build());
+            } catch (DateTimeParseException e) {
+                log.warn("[{}] 날짜 파싱 실패: '{}'", SITE_NAME, cells.get(1).text());
+                failedRows++;
+            } catch (Exception e) {
+                log.error("[{}] 행 처리 중 오류 발생: {}", SITE_NAME, row.html(), e);
+                failedRows++;
+            }
+        }
+        return new ParsedPage(records, rows.size(), failedRows);
+    }
+
+    public static LocalDate parseDate(String dateStr) {
+        return LocalDate.parse(dateStr, DATE_FORMAT);
+    }
+}
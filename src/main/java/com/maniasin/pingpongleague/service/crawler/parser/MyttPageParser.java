@@ -0,0 +1,54 @@
+package com.maniasin.pingpongleague.service.crawler.parser;
+
+import com.maniasin.pingpongleague.dto.CrawledRecordDto;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MyTT 입상자 검색 결과 표(한 페이지) → 입상 기록
+ * - 페이지 전체가 아니라 결과 표 본문(tbody)의 outerHTML을 받음
+ * - 날짜를 읽지 못하면 예외를 던짐 (표 형식이 바뀐 것으로 보고 크롤링 실패 처리)
+ */
+public final class MyttPageParser {
+
+    private static final String NO_RESULTS_TEXT = "입상자 내역이 없습니다.";
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private MyttPageParser() {
+    }
+
+    /**
+     * @return 결과가 없는 페이지면 rowCount == 0
+     */
+    public static ParsedPage parse(String tableBodyHtml) {
+        Elements rows = Jsoup.parseBodyFragment("<table>" + tableBodyHtml + "</table>").select("tbody > tr");
+        if (rows.isEmpty() || (rows.size() == 1 && rows.get(0).text().contains(NO_RESULTS_TEXT))) {
+            return new ParsedPage(List.of(), 0, 0);
+        }
+
+        List<CrawledRecordDto> records = new ArrayList<>(rows.size());
+        for (Element row : rows) {
+            Elements cells = row.select("td");
+            if (cells.size() < 7) continue;
+
+            records.add(CrawledRecordDto.builder()
+                    .tournamentName(cells.get(0).text())
+                    .tournamentDate(parseDate(cells.get(1).text()))
+                    .division(cells.get(3).text())
+                    .placing(cells.get(4).text())
+                    .detail(cells.get(6).text())
+                    .build());
+        }
+        return new ParsedPage(records, rows.size(), 0);
+    }
+
+    public static LocalDate parseDate(String dateStr) {
+        return LocalDate.parse(dateStr, DATE_FORMAT);
+    }
+}
@@ -0,0 +1,22 @@
+package com.maniasin.pingpongleague.service.crawler.parser;
+
+import com.maniasin.pingpongleague.dto.CrawledRecordDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 결과 페이지 하나를 파싱한 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public class ParsedPage {
+    private final List<CrawledRecordDto> records;
+    private final int rowCount;   // 파싱 대상 행(블록) 수 (0이면 결과 영역을 찾지 못한 것)
+    private final int failedRows; // 읽지 못하고 건너뛴 행 수
+
+    public boolean hasFailures() {
+        return failedRows > 0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.maniasin.pingpongleague.service.crawler.parser;
+
+import com.maniasin.pingpongleague.dto.CrawledRecordDto;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 탁구왕 선수 검색 결과 창 → 입상 기록
+ * - 브라우저 없이 저장된 페이지 소스만으로 호출 가능
+ */
+@Slf4j
+public final class PingpongkingPageParser {
+
+    private static final String SITE_NAME = "탁구왕";
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yy.MM.dd");
+    // 성적에 이 문자열이 포함되면 입상으로 봄
+    private static final List<String> PRIZED_PLACINGS = List.of("1위", "2위", "3위");
+
+    private PingpongkingPageParser() {
+    }
+
+    public static ParsedPage parse(String html) {
+        return parse(Jsoup.parse(html));
+    }
+
+    public static ParsedPage parse(Document doc) {
+        Elements rows = doc.select("table.csTableBase tr");
+
+        List<CrawledRecordDto> records = new ArrayList<>();
+        int failedRows = 0;
+        for (Element row : rows) {
+            if (!row.select("th").isEmpty()) continue;
+            Elements cells = row.select("td");
+            if (cells.size() < 7) continue;
+
+            try {
+                String placing = cells.get(6).text().trim();
+                if (placing.isEmpty() || PRIZED_PLACINGS.stream().noneMatch(placing::contains)) {
+                    continue;
+                }
+
+                String dateStr = cells.get(0).text().trim();
+                String tournamentName = cells.get(1).text().trim();
+                String division = cells.get(2).text().trim();
+                String detail = cells.get(4).text().trim();
+
+                records.add(CrawledRecordDto.builder()
+                        .tournamentName(tournamentName).tournamentDate(parseDate(dateStr))
+                        .division(division).detail(detail).placing(placing)
+                        .build());
+            } catch (Exception e) {
+                log.error("[{}] 행 처리 중 오류 발생: {}", SITE_NAME, row.html(), e);
+                failedRows++;
+            }
+        }
+        return new ParsedPage(records, rows.size(), failedRows);
+    }
+
+    public static LocalDate parseDate(String dateStr) {
+        return LocalDate.parse(dateStr, DATE_FORMAT);
+    }
+}
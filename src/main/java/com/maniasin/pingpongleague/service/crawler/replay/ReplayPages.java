@@ -0,0 +1,356 @@
+package com.maniasin.pingpongleague.service.crawler.replay;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Entities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재생 서버가 돌려주는 사이트별 페이지
+ * - 결과 영역은 저장된 페이지(classpath:/replay/{siteKey}.html)를 그대로 사용
+ * - 그 외에는 각 크롤러가 찾는 요소(검색창, 버튼, 로그인 폼, '더보기', 페이지 넘김)만 최소한으로 재현
+ * - 로그인이 필요한 사이트(아이핑, 탁구왕)는 아무 계정이나 받아 세션 쿠키를 발급
+ */
+class ReplayPages {
+
+    private static final String AIRPING_HEADER =
+            "<li class=\"_mc_div _vc_fixed\"><div class=\"player_inner4\"><div class=\"player_box\">대회명</div></div>"
+                    + "<div class=\"player_inner5\"><div class=\"player_box\">일자</div></div></li>";
+    private static final String MYTT_EMPTY_ROW =
+            "<tr class=\"ui-datatable-empty-message\"><td colspan=\"7\">No records found.</td></tr>";
+
+    private final int pageSize;
+    private final List<String> airpingBlocks;
+    private final String ipingResult;
+    private final String koreaTakguResult;
+    private final List<String> myttRows;
+    private final String pingpongkingResult;
+
+    // 사이트별로 발급한 세션 토큰
+    private final Map<String, Set<String>> sessions = new ConcurrentHashMap<>();
+
+    ReplayPages(int pageSize) throws IOException {
+        this.pageSize = Math.max(1, pageSize);
+        this.airpingBlocks = Jsoup.parse(fixture("airping"))
+                .select("ul.player_cont_body > li._mc_div:not(._vc_fixed)").stream()
+                .filter(block -> block.selectFirst(".player_inner4 .player_box a") != null)
+                .map(Element::outerHtml)
+                .toList();
+        this.ipingResult = Jsoup.parse(fixture("iping")).body().html();
+        this.koreaTakguResult = Jsoup.parse(fixture("koreatakgu")).body().html();
+        this.myttRows = Jsoup.parseBodyFragment("<table>" + fixture("mytt") + "</table>")
+                .select("tr").stream()
+                .map(Element::outerHtml)
+                .toList();
+        this.pingpongkingResult = Jsoup.parse(fixture("pingpongking")).body().html();
+    }
+
+    /**
+     * 에어핑: 검색 폼 → 결과 첫 페이지 → '더보기'(AJAX)로 나머지 블록 추가
+     */
+    Response airping(Request request) {
+        switch (request.getPath()) {
+            case "/11player/01.php": {
+                String keyword = request.param("keyword");
+                String form = "<form method=\"get\" action=\"" + request.getContext() + "/11player/01.php\">"
+                        + "<input type=\"text\" id=\"player_search_keyword\" name=\"keyword\" value=\"" + escape(keyword) + "\">"
+                        + "<button type=\"submit\" class=\"player_search_btn\">검색</button></form>";
+                if (keyword == null) {
+                    return Response.html(page("에어핑 - 선수검색", form));
+                }
+                int lastPage = lastPage(airpingBlocks.size());
+                String results = "<ul class=\"player_cont_body\">" + AIRPING_HEADER + String.join("", slice(airpingBlocks, 0)) + "</ul>"
+                        + "<a class=\"_cc_view_more_btn\" href=\"javascript:;\" onclick=\"loadMore(this)\""
+                        + (lastPage == 0 ? " style=\"display:none\"" : "") + ">더보기</a>"
+                        + "<script>"
+                        + "var nextPage = 1, lastPage = " + lastPage + ";"
+                        + "function loadMore(button) {"
+                        + "  fetch('" + request.getContext() + "/11player/more.php?page=' + nextPage).then(function (res) {"
+                        + "    if (!res.ok) { throw new Error(res.status); }"
+                        + "    return res.text();"
+                        + "  }).then(function (html) {"
+                        + "    document.querySelector('ul.player_cont_body').insertAdjacentHTML('beforeend', html);"
+                        + "    if (++nextPage > lastPage) { button.style.display = 'none'; }"
+                        + "  }).catch(function () {});"
+                        + "}"
+                        + "</script>";
+                return Response.html(page("에어핑 - 선수검색", form + results));
+            }
+            case "/11player/more.php":
+                return Response.html(String.join("", slice(airpingBlocks, request.intParam("page"))));
+            default:
+                return Response.notFound();
+        }
+    }
+
+    /**
+     * 아이핑: 로그인(세션 쿠키) → 검색 폼 → 결과 페이지
+     */
+    Response iping(Request request) {
+        if (!request.getPath().equals("/") && !request.getPath().isEmpty()) {
+            return Response.notFound();
+        }
+        String context = request.getContext();
+        String pg = request.param("pg");
+        boolean loggedIn = isLoggedIn("iping", request);
+        String logoutLink = "<a href=\"" + context + "/?pg=logout\">로그아웃</a>";
+        String loginLink = "<a href=\"" + context + "/?pg=login\">로그인</a>";
+
+        if ("login".equals(pg)) {
+            if (request.isPost() && !isBlank(request.param("Mid"))) {
+                return Response.html(page("아이핑", logoutLink)).withSessionCookie(login("iping"), context);
+            }
+            return Response.html(page("아이핑 - 로그인",
+                    "<form method=\"post\" action=\"" + context + "/?pg=login\">"
+                            + "<input type=\"text\" name=\"Mid\"><input type=\"password\" name=\"Pwd\">"
+                            + "<input type=\"submit\" value=\"로그인\"></form>"));
+        }
+        if ("logout".equals(pg)) {
+            logout("iping", request);
+            return Response.html(page("아이핑", loginLink));
+        }
+        if ("Search".equals(pg)) {
+            if (!loggedIn) {
+                return Response.html(page("아이핑", loginLink));
+            }
+            String keyword = request.param("SchVal");
+            String form = "<form method=\"get\" action=\"" + context + "/\">"
+                    + "<input type=\"hidden\" name=\"pg\" value=\"Search\"><input type=\"hidden\" name=\"c\" value=\"1\">"
+                    + "<input type=\"text\" name=\"SchVal\" value=\"" + escape(keyword) + "\">"
+                    + "<input type=\"submit\" name=\"sch\" value=\"검색\"></form>";
+            return Response.html(page("아이핑 - 선수검색", logoutLink + form + (keyword == null ? "" : ipingResult)));
+        }
+        return Response.html(page("아이핑", loggedIn ? logoutLink : loginLink));
+    }
+
+    /**
+     * 코리아탁구: 검색 폼(POST) → 결과 페이지 (브라우저 없이 HTTP로도 제출 가능)
+     */
+    Response koreaTakgu(Request request) {
+        if (!request.getPath().equals("/seoul/2017/Do.jsp")) {
+            return Response.notFound();
+        }
+        String name = request.param("userNm");
+        String form = "<form name=\"searchForm\" method=\"post\" action=\"" + request.getContext() + "/seoul/2017/Do.jsp?urlSeq=302\">"
+                + "<input type=\"text\" id=\"userNm\" name=\"userNm\" value=\"" + escape(name) + "\"></form>"
+                + "<a class=\"_btn\" href=\"javascript:document.searchForm.submit()\">검색</a>";
+        return Response.html(page("코리아탁구 - 개인별 결과", form + (name == null ? "" : koreaTakguResult)));
+    }
+
+    /**
+     * MyTT: 검색 버튼(AJAX)으로 결과 표 본문 교체, '다음' 버튼으로 페이지 넘김
+     */
+    Response mytt(Request request) {
+        switch (request.getPath()) {
+            case "/main/winner_list.xhtml": {
+                String body = "<form id=\"mainForm\" onsubmit=\"return false;\">"
+                        + "<input type=\"text\" id=\"mainForm:playerName\" name=\"mainForm:playerName\">"
+                        + "<button type=\"button\" id=\"mainForm:j_idt84\" onclick=\"search()\">검색</button>"
+                        + "<div id=\"mainForm:winnerTable\" class=\"ui-datatable\">"
+                        + "<table><tbody id=\"mainForm:winnerTable_data\" class=\"ui-datatable-data\">" + MYTT_EMPTY_ROW + "</tbody></table>"
+                        + "<div class=\"ui-paginator\"><span class=\"ui-paginator-next ui-state-disabled\" onclick=\"nextPage()\">다음</span></div>"
+                        + "</div></form>"
+                        + "<script>"
+                        + "var currentPage = 0, lastPage = 0;"
+                        + "function load(page) {"
+                        + "  var name = document.getElementById('mainForm:playerName').value;"
+                        + "  fetch('" + request.getContext() + "/main/winner_data.xhtml?name=' + encodeURIComponent(name) + '&page=' + page).then(function (res) {"
+                        + "    if (!res.ok) { throw new Error(res.status); }"
+                        + "    lastPage = parseInt(res.headers.get('X-Last-Page'), 10);"
+                        + "    return res.text();"
+                        + "  }).then(function (rows) {"
+                        + "    currentPage = page;"
+                        + "    document.getElementById('mainForm:winnerTable_data').innerHTML = rows;"
+                        + "    document.querySelector('span.ui-paginator-next').classList.toggle('ui-state-disabled', currentPage >= lastPage);"
+                        + "  }).catch(function () {});"
+                        + "}"
+                        + "function search() { load(0); }"
+                        + "function nextPage() { if (currentPage < lastPage) { load(currentPage + 1); } }"
+                        + "</script>";
+                return Response.html(page("MyTT - 입상자 검색", body));
+            }
+            case "/main/winner_data.xhtml": {
+                List<String> rows = slice(myttRows, request.intParam("page"));
+                return Response.html(rows.isEmpty() ? MYTT_EMPTY_ROW : String.join("", rows))
+                        .withHeader("X-Last-Page", String.valueOf(lastPage(myttRows.size())));
+            }
+            default:
+                return Response.notFound();
+        }
+    }
+
+    /**
+     * 탁구왕: 로그인 폼 제출(실패 시 alert) → 메인에서 검색 창(window.open) → 결과 표
+     */
+    Response pingpongking(Request request) {
+        String context = request.getContext();
+        boolean loggedIn = isLoggedIn("pingpongking", request);
+        switch (request.getPath()) {
+            case "":
+            case "/": {
+                String status = loggedIn
+                        ? "<img src=\"/Img/Bg/loginRightOn.png\" alt=\"로그인\">"
+                        : "<a href=\"" + context + "/loginForm.asp\">로그인</a>";
+                String script = "<script>function fnOpenSearchPlayer() {"
+                        + " window.open('" + context + "/searchPlayer.asp', 'searchPlayer', 'width=800,height=600'); }</script>";
+                return Response.html(page("탁구왕", status + script));
+            }
+            case "/loginForm.asp":
+                return Response.html(page("탁구왕 - 로그인",
+                        "<form name=\"frmLogin\" method=\"post\" action=\"" + context + "/loginProc.asp\">"
+                                + "<input type=\"text\" name=\"userid\"><input type=\"password\" name=\"pwd\"></form>"));
+            case "/loginProc.asp":
+                if (!request.isPost() || isBlank(request.param("userid"))) {
+                    return Response.html(page("탁구왕", "<script>alert('아이디 또는 비밀번호를 확인해 주세요.'); history.back();</script>"));
+                }
+                return Response.redirect(context + "/").withSessionCookie(login("pingpongking"), context);
+            case "/searchPlayer.asp": {
+                if (!loggedIn) {
+                    return Response.html(page("탁구왕", "<p>로그인 후 이용해 주세요.</p>"));
+                }
+                String name = request.param("name");
+                String body = "<input type=\"text\" id=\"idMemberName\" value=\"" + escape(name) + "\">"
+                        + "<script>function fnSearchMember() {"
+                        + " location.href = '" + context + "/searchPlayer.asp?name=' + encodeURIComponent(document.getElementById('idMemberName').value); }</script>"
+                        + (name == null ? "" : pingpongkingResult);
+                return Response.html(page("탁구왕 - 선수검색", body));
+            }
+            default:
+                return Response.notFound();
+        }
+    }
+
+    private String login(String siteKey) {
+        String token = UUID.randomUUID().toString();
+        sessions.computeIfAbsent(siteKey, key -> ConcurrentHashMap.newKeySet()).add(token);
+        return token;
+    }
+
+    private void logout(String siteKey, Request request) {
+        String token = request.getCookies().get(Response.SESSION_COOKIE);
+        if (token != null) {
+            sessions.getOrDefault(siteKey, Set.of()).remove(token);
+        }
+    }
+
+    private boolean isLoggedIn(String siteKey, Request request) {
+        String token = request.getCookies().get(Response.SESSION_COOKIE);
+        return token != null && sessions.getOrDefault(siteKey, Set.of()).contains(token);
+    }
+
+    /**
+     * 0부터 시작하는 page 번째 묶음
+     */
+    private List<String> slice(List<String> items, int page) {
+        int from = Math.max(0, page) * pageSize;
+        if (from >= items.size()) {
+            return List.of();
+        }
+        return items.subList(from, Math.min(items.size(), from + pageSize));
+    }
+
+    private int lastPage(int size) {
+        return Math.max(0, (size - 1) / pageSize);
+    }
+
+    private static String page(String title, String body) {
+        return "<!DOCTYPE html><html lang=\"ko\"><head><meta charset=\"UTF-8\"><title>" + title + "</title></head>"
+                + "<body>" + body + "</body></html>";
+    }
+
+    private static String escape(String value) {
+        return value == null ? "" : Entities.escape(value);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String fixture(String siteKey) throws IOException {
+        try (InputStream in = ReplayPages.class.getResourceAsStream("/replay/" + siteKey + ".html")) {
+            if (in == null) {
+                throw new IllegalStateException("저장된 페이지가 없습니다: replay/" + siteKey + ".html");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 사이트 경로 기준으로 나눈 요청
+     */
+    @Getter
+    @RequiredArgsConstructor
+    static class Request {
+        private final String method;
+        private final String context; // 사이트 경로 (예: /airping)
+        private final String path;    // 사이트 경로 이후 부분 (예: /11player/01.php)
+        private final Map<String, String> params; // 쿼리 + 폼 값
+        private final Map<String, String> cookies;
+
+        boolean isPost() {
+            return "POST".equalsIgnoreCase(method);
+        }
+
+        String param(String name) {
+            return params.get(name);
+        }
+
+        int intParam(String name) {
+            try {
+                return Integer.parseInt(params.getOrDefault(name, "0"));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+
+    @Getter
+    static class Response {
+        static final String SESSION_COOKIE = "REPLAY_SESSION";
+
+        private final int status;
+        private final String body;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response html(String body) {
+            return new Response(200, body);
+        }
+
+        static Response redirect(String location) {
+            return new Response(302, "").withHeader("Location", location);
+        }
+
+        static Response notFound() {
+            return new Response(404, page("Not Found", "<h1>404 Not Found</h1>"));
+        }
+
+        static Response error(int status) {
+            return new Response(status, page("Error", "<h1>" + status + " 일시적인 오류</h1>"));
+        }
+
+        Response withHeader(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        Response withSessionCookie(String token, String path) {
+            return withHeader("Set-Cookie", SESSION_COOKIE + "=" + token + "; Path=" + path + "; HttpOnly");
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.maniasin.pingpongleague.service.crawler.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.maniasin.pingpongleague.config.ReplayProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 크롤링 대상 사이트 로컬 재생 서버 (replay 프로필)
+ * - 저장된 페이지로 다섯 사이트를 흉내 내어 외부 접속 없이 크롤링 전체 과정(브라우저 풀, Bulkhead, 대기열)을 실행
+ * - 사이트마다 /{siteKey} 경로로 제공하며, crawler.sites.base-url.{siteKey}를 이 주소로 지정해 사용
+ * - 요청마다 설정된 지연을 주고, 설정된 확률로 오류 응답을 돌려줌 (Circuit Breaker, 재시도 확인용)
+ * - 사이트별 요청/오류 수: GET /_replay/stats
+ */
+@Slf4j
+@Component
+@Profile("replay")
+@RequiredArgsConstructor
+public class SiteReplayServer {
+
+    private static final String STATS_PATH = "/_replay/stats";
+
+    private final ReplayProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, SiteCounter> counters = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() throws IOException {
+        ReplayPages pages = new ReplayPages(properties.getPageSize());
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), properties.getPort()), 0);
+        // 지연(sleep) 중인 요청이 다른 요청을 막지 않도록 요청마다 스레드 사용
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "replay-http-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+
+        register("airping", pages::airping);
+        register("iping", pages::iping);
+        register("koreatakgu", pages::koreaTakgu);
+        register("mytt", pages::mytt);
+        register("pingpongking", pages::pingpongking);
+        server.createContext(STATS_PATH, this::handleStats);
+
+        server.start();
+        log.info("재생 서버 시작: http://{}:{} (지연 {}~{}ms, 오류율 {})",
+                InetAddress.getLoopbackAddress().getHostAddress(), server.getAddress().getPort(),
+                properties.getLatencyMs(), properties.getLatencyMs() + properties.getLatencyJitterMs(), properties.getFailureRate());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            log.info("재생 서버 종료: {}", getStats());
+        }
+    }
+
+    public Map<String, Stats> getStats() {
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        counters.forEach((siteKey, counter) -> stats.put(siteKey, counter.toStats()));
+        return stats;
+    }
+
+    private void register(String siteKey, Function<ReplayPages.Request, ReplayPages.Response> site) {
+        SiteCounter counter = counters.computeIfAbsent(siteKey, key -> new SiteCounter());
+        String context = "/" + siteKey;
+        server.createContext(context, exchange -> {
+            try {
+                counter.requests.incrementAndGet();
+                delay(siteKey, counter);
+
+                ReplayPages.Response response;
+                if (ThreadLocalRandom.current().nextDouble() < properties.failureRate(siteKey)) {
+                    counter.failures.incrementAndGet();
+                    response = ReplayPages.Response.error(properties.getFailureStatus());
+                } else {
+                    response = site.apply(toRequest(exchange, context));
+                }
+                send(exchange, response);
+            } catch (RuntimeException e) {
+                log.warn("[재생 서버] {} 요청 처리 중 오류: {}", exchange.getRequestURI(), e.getMessage());
+            } finally {
+                exchange.close();
+            }
+        });
+    }
+
+    private void delay(String siteKey, SiteCounter counter) {
+        int jitter = properties.getLatencyJitterMs();
+        long millis = properties.latencyMs(siteKey) + (jitter > 0 ? ThreadLocalRandom.current().nextInt(jitter + 1) : 0);
+        if (millis <= 0) {
+            return;
+        }
+        counter.delayMillis.addAndGet(millis);
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(getStats());
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private ReplayPages.Request toRequest(HttpExchange exchange, String context) throws IOException {
+        Map<String, String> params = new HashMap<>(parseForm(exchange.getRequestURI().getRawQuery()));
+        if ("POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+            try (InputStream body = exchange.getRequestBody()) {
+                params.putAll(parseForm(new String(body.readAllBytes(), StandardCharsets.UTF_8)));
+            }
+        }
+
+        Map<String, String> cookies = new HashMap<>();
+        for (String header : exchange.getRequestHeaders().getOrDefault("Cookie", List.of())) {
+            for (String pair : header.split(";")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    cookies.put(pair.substring(0, eq).trim(), pair.substring(eq + 1).trim());
+                }
+            }
+        }
+
+        String path = exchange.getRequestURI().getPath().substring(context.length());
+        return new ReplayPages.Request(exchange.getRequestMethod(), context, path, params, cookies);
+    }
+
+    private void send(HttpExchange exchange, ReplayPages.Response response) throws IOException {
+        byte[] body = response.getBody().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+        response.getHeaders().forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+        exchange.sendResponseHeaders(response.getStatus(), body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static Map<String, String> parseForm(String encoded) {
+        Map<String, String> values = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return values;
+        }
+        for (String pair : encoded.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq >= 0 ? pair.substring(0, eq) : pair;
+            String value = eq >= 0 ? pair.substring(eq + 1) : "";
+            values.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    private static class SiteCounter {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong delayMillis = new AtomicLong();
+
+        Stats toStats() {
+            long total = requests.get();
+            return Stats.builder()
+                    .requests(total)
+                    .injectedFailures(failures.get())
+                    .avgDelayMillis(total == 0 ? 0 : delayMillis.get() / total)
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class Stats {
+        private final long requests;
+        private final long injectedFailures;
+        private final long avgDelayMillis;
+    }
+}
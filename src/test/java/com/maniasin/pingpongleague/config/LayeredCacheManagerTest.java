@@ -0,0 +1,138 @@
+package com.maniasin.pingpongleague.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 대신 프로세스 내 공유 캐시(L2)와 무효화 통로로 두 노드를 구성하여 검증
+ */
+class LayeredCacheManagerTest {
+
+    private static final String CACHE = "playerRecords";
+
+    private ConcurrentMapCacheManager sharedRemote;
+    private InProcessBus bus;
+
+    @BeforeEach
+    void setUp() {
+        sharedRemote = new ConcurrentMapCacheManager(CACHE);
+        bus = new InProcessBus();
+    }
+
+    @Test
+    void readsValueStoredByAnotherNodeFromL2() {
+        Cache nodeA = node(sharedRemote).getCache(CACHE);
+        Cache nodeB = node(sharedRemote).getCache(CACHE);
+
+        nodeA.put("홍길동", List.of("우승"));
+
+        assertThat(nodeB.get("홍길동").get()).isEqualTo(List.of("우승"));
+    }
+
+    @Test
+    void evictInvalidatesOtherNodesL1() {
+        Cache nodeA = node(sharedRemote).getCache(CACHE);
+        Cache nodeB = node(sharedRemote).getCache(CACHE);
+        nodeA.put("홍길동", List.of("우승"));
+        nodeB.get("홍길동"); // B의 L1 채움
+
+        nodeA.evict("홍길동");
+
+        assertThat(nodeB.get("홍길동")).isNull();
+    }
+
+    @Test
+    void loadsSameKeyOnlyOnce() {
+        Cache nodeA = node(sharedRemote).getCache(CACHE);
+        Cache nodeB = node(sharedRemote).getCache(CACHE);
+        AtomicInteger loads = new AtomicInteger();
+
+        nodeA.get("홍길동", () -> List.of("loaded-" + loads.incrementAndGet()));
+        Object fromB = nodeB.get("홍길동", () -> List.of("loaded-" + loads.incrementAndGet()));
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(fromB).isEqualTo(List.of("loaded-1"));
+    }
+
+    @Test
+    void fallsBackToL1WhenRemoteFails() {
+        ConcurrentMapCacheManager brokenRemote = new ConcurrentMapCacheManager() {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new ConcurrentMapCache(name) {
+                    @Override
+                    public ValueWrapper get(Object key) {
+                        throw new IllegalStateException("Redis 연결 끊김");
+                    }
+
+                    @Override
+                    public void put(Object key, Object value) {
+                        throw new IllegalStateException("Redis 연결 끊김");
+                    }
+                };
+            }
+        };
+        Cache cache = node(brokenRemote).getCache(CACHE);
+
+        cache.put("홍길동", List.of("우승"));
+
+        assertThat(cache.get("홍길동").get()).isEqualTo(List.of("우승"));
+        assertThat(cache.get("없는선수")).isNull();
+    }
+
+    @Test
+    void usesLocalCacheOnlyWithoutRedis() {
+        LayeredCacheManager manager = new LayeredCacheManager(Caffeine.newBuilder(), null, null, List.of(CACHE));
+
+        manager.getCache(CACHE).put("홍길동", List.of("우승"));
+
+        assertThat(manager.isRemoteEnabled()).isFalse();
+        assertThat(manager.getCache(CACHE).get("홍길동").get()).isEqualTo(List.of("우승"));
+    }
+
+    private LayeredCacheManager node(ConcurrentMapCacheManager remote) {
+        return new LayeredCacheManager(Caffeine.newBuilder(), remote, bus.join(), List.of(CACHE));
+    }
+
+    /**
+     * Redis Pub/Sub 대체: 보낸 노드를 제외한 모든 노드에 전달
+     */
+    private static class InProcessBus {
+        private final List<Node> nodes = new CopyOnWriteArrayList<>();
+
+        CacheInvalidationBus join() {
+            Node node = new Node();
+            nodes.add(node);
+            return node;
+        }
+
+        private class Node implements CacheInvalidationBus {
+            private final List<BiConsumer<String, String>> listeners = new CopyOnWriteArrayList<>();
+
+            @Override
+            public void publish(String cacheName, Object key) {
+                for (Node other : nodes) {
+                    if (other != this) {
+                        other.listeners.forEach(listener -> listener.accept(cacheName, key == null ? null : key.toString()));
+                    }
+                }
+            }
+
+            @Override
+            public void subscribe(BiConsumer<String, String> listener) {
+                listeners.add(listener);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.maniasin.pingpongleague.service;
+
+import com.maniasin.pingpongleague.domain.AwardRecord;
+import com.maniasin.pingpongleague.domain.AwardRecordChange;
+import com.maniasin.pingpongleague.domain.Player;
+import com.maniasin.pingpongleague.domain.Tournament;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경 피드가 since 이후(since 시각 제외)의 해당 선수 변경만 오래된 순으로 돌려주는지 검증 (내장 H2)
+ */
+@DataJpaTest
+@Import(AwardChangeFeedService.class)
+class AwardChangeFeedServiceTest {
+
+    @Autowired
+    private AwardChangeFeedService awardChangeFeedService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Player player;
+    private Player otherPlayer;
+    private LocalDateTime since;
+
+    @BeforeEach
+    void setUp() {
+        player = entityManager.persist(Player.builder().name("홍길동").build());
+        otherPlayer = entityManager.persist(Player.builder().name("김철수").build());
+        since = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @Test
+    void returnsOnlyChangesAfterSince() {
+        change(player, "이전 대회", since.minusMinutes(1));
+        change(player, "기준 시각 대회", since);
+        change(player, "두 번째 대회", since.plusMinutes(2));
+        change(player, "첫 번째 대회", since.plusMinutes(1));
+        change(otherPlayer, "다른 선수 대회", since.plusMinutes(1));
+        entityManager.flush();
+
+        AwardChangeFeedService.ChangeFeed feed = awardChangeFeedService.findChangesSince("홍길동", since);
+
+        assertThat(feed.getChanges()).extracting(change -> change.getRecord().getTournamentName())
+                .containsExactly("첫 번째 대회", "두 번째 대회");
+        assertThat(feed.getUntil()).isEqualTo(since.plusMinutes(2));
+        assertThat(feed.isTruncated()).isFalse();
+    }
+
+    @Test
+    void noChangesKeepsSinceAsNextCursor() {
+        change(player, "이전 대회", since.minusMinutes(1));
+        entityManager.flush();
+
+        AwardChangeFeedService.ChangeFeed feed = awardChangeFeedService.findChangesSince("홍길동", since);
+
+        assertThat(feed.getChanges()).isEmpty();
+        assertThat(feed.getUntil()).isEqualTo(since);
+    }
+
+    @Test
+    void marksFeedTruncatedWhenMoreThanMaxResults() {
+        ReflectionTestUtils.setField(awardChangeFeedService, "maxResults", 1);
+        change(player, "첫 번째 대회", since.plusMinutes(1));
+        change(player, "두 번째 대회", since.plusMinutes(2));
+        entityManager.flush();
+
+        AwardChangeFeedService.ChangeFeed feed = awardChangeFeedService.findChangesSince("홍길동", since);
+
+        assertThat(feed.getChanges()).extracting(change -> change.getRecord().getTournamentName()).containsExactly("첫 번째 대회");
+        assertThat(feed.isTruncated()).isTrue();
+    }
+
+    private void change(Player owner, String tournamentName, LocalDateTime changedAt) {
+        Tournament tournament = Tournament.builder()
+                .name(tournamentName)
+                .tournamentDate(LocalDate.of(2025, 5, 1))
+                .organizer("에어핑")
+                .build();
+        AwardRecord record = AwardRecord.builder()
+                .player(owner)
+                .tournament(tournament)
+                .division("남자 1부")
+                .detail("")
+                .placing("우승")
+                .sourceSite("에어핑")
+                .build();
+        entityManager.persist(AwardRecordChange.builder()
+                .player(owner)
+                .changeType(AwardRecordChange.ChangeType.ADDED)
+                .siteName("에어핑")
+                .record(record)
+                .changedAt(changedAt)
+                .build());
+    }
+}
@@ -0,0 +1,229 @@
+package com.maniasin.pingpongleague.service;
+
+import com.maniasin.pingpongleague.domain.LeagueGroup;
+import com.maniasin.pingpongleague.domain.LeagueRoom;
+import com.maniasin.pingpongleague.domain.Match;
+import com.maniasin.pingpongleague.domain.User;
+import com.maniasin.pingpongleague.dto.GroupStandingDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경기 결과를 하나씩 반영한 순위표(GroupStandingsStore)가 매번 조 전체를 다시 계산한 순위표와 같은지 검증
+ * - 순위, 전적, 비고, 동점자 간 세트 득실까지 비교
+ * - 트랜잭션이 없으므로 recordResult()는 바로 반영됨
+ */
+class GroupStandingsStoreTest {
+
+    private static final long GROUP_ID = 1L;
+
+    private RankingService rankingService;
+    private GroupStandingsStore store;
+    private LeagueGroup group;
+    private long nextMatchId;
+
+    @BeforeEach
+    void setUp() {
+        rankingService = new RankingService();
+        store = new GroupStandingsStore(rankingService);
+        group = LeagueGroup.builder().groupName("A조").build();
+        ReflectionTestUtils.setField(group, "id", GROUP_ID);
+        nextMatchId = 1;
+    }
+
+    @ParameterizedTest
+    @EnumSource(LeagueRoom.RoundRobinRankingType.class)
+    void twoWayTiesAreResolvedByHeadToHead(LeagueRoom.RoundRobinRankingType rankingType) {
+        List<User> players = players(4);
+        List<Match> matches = roundRobin(players);
+        // 1: 2, 3 승 / 2: 3, 4 승 / 3: 4 승 / 4: 1 승 -> 1과 2, 3과 4가 각각 2명 동점
+        List<Result> results = List.of(
+                win(matches, players, 1, 2, 1),
+                win(matches, players, 1, 3, 0),
+                win(matches, players, 4, 1, 2),
+                win(matches, players, 2, 3, 1),
+                win(matches, players, 2, 4, 0),
+                win(matches, players, 3, 4, 2));
+
+        List<GroupStandingDto> standings = applyOneByOne(matches, results, RankingRule.of(rankingType, null));
+
+        assertThat(standings).extracting(GroupStandingDto::getPlayerId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(standings.get(0).getRemarks()).isEqualTo("player2 상대 승자승");
+        assertThat(standings.get(2).getRemarks()).isEqualTo("player4 상대 승자승");
+    }
+
+    @ParameterizedTest
+    @EnumSource(LeagueRoom.RoundRobinRankingType.class)
+    void threeWayTieIsResolvedBySetRatioAmongTiedPlayers(LeagueRoom.RoundRobinRankingType rankingType) {
+        List<User> players = players(5);
+        List<Match> matches = roundRobin(players);
+        // 1, 2, 3이 2승 2패로 3명 동점 - 셋끼리는 1이 2승, 2가 1승, 3이 전패 / 5는 3승으로 1위, 4는 1승
+        List<Result> results = List.of(
+                win(matches, players, 1, 2, 1),
+                win(matches, players, 1, 3, 0),
+                win(matches, players, 2, 3, 2),
+                win(matches, players, 4, 1, 1),
+                win(matches, players, 5, 1, 2),
+                win(matches, players, 2, 4, 0),
+                win(matches, players, 5, 2, 1),
+                win(matches, players, 3, 4, 2),
+                win(matches, players, 3, 5, 0),
+                win(matches, players, 5, 4, 1));
+
+        List<GroupStandingDto> standings = applyOneByOne(matches, results, RankingRule.of(rankingType, null));
+
+        // 동점자 간 세트 득실: 1 = 6:0, 2 = 3:3, 3 = 0:6
+        assertThat(standings).extracting(GroupStandingDto::getPlayerId).containsExactly(5L, 1L, 2L, 3L, 4L);
+        assertThat(standings.subList(1, 4)).allSatisfy(row -> assertThat(row.getRemarks()).isEqualTo("동점자 간 세트 득실"));
+        assertThat(standings.get(1).getTieBreakerGamesWon()).isEqualTo(6);
+        assertThat(standings.get(1).getTieBreakerGamesLost()).isEqualTo(0);
+    }
+
+    @Test
+    void customTieBreakerChainMatchesFullRecompute() {
+        RankingRule rule = RankingRule.of(LeagueRoom.RoundRobinRankingType.POINTS,
+                List.of(LeagueRoom.TieBreaker.SET_DIFFERENCE, LeagueRoom.TieBreaker.HEAD_TO_HEAD, LeagueRoom.TieBreaker.LOTS));
+        List<User> players = players(4);
+        List<Match> matches = roundRobin(players);
+        // 1과 2가 2승 1패, 세트 득실차 1 = +3, 2 = +4 -> 맞대결과 무관하게 2가 앞섬
+        List<Result> results = List.of(
+                win(matches, players, 1, 2, 2),
+                win(matches, players, 1, 3, 0),
+                win(matches, players, 4, 1, 2),
+                win(matches, players, 2, 3, 0),
+                win(matches, players, 2, 4, 0),
+                win(matches, players, 3, 4, 1));
+
+        List<GroupStandingDto> standings = applyOneByOne(matches, results, rule);
+
+        assertThat(standings).extracting(GroupStandingDto::getPlayerId).startsWith(2L, 1L);
+        assertThat(standings.get(0).getRemarks()).isEqualTo("세트 득실차");
+    }
+
+    @Test
+    void randomResultOrdersMatchFullRecomputeForEveryRule() {
+        Random random = new Random(42);
+        List<List<LeagueRoom.TieBreaker>> chains = List.of(
+                LeagueRoom.DEFAULT_TIE_BREAKERS,
+                List.of(LeagueRoom.TieBreaker.TOTAL_SET_RATIO, LeagueRoom.TieBreaker.HEAD_TO_HEAD),
+                List.of(LeagueRoom.TieBreaker.SET_DIFFERENCE, LeagueRoom.TieBreaker.TIED_SET_RATIO, LeagueRoom.TieBreaker.LOTS),
+                List.of(LeagueRoom.TieBreaker.LOTS));
+
+        for (int trial = 0; trial < 200; trial++) {
+            setUp();
+            LeagueRoom.RoundRobinRankingType rankingType = LeagueRoom.RoundRobinRankingType.values()[trial % 2];
+            RankingRule rule = RankingRule.of(rankingType, chains.get(trial % chains.size()));
+            List<User> players = players(3 + random.nextInt(6));
+            List<Match> matches = roundRobin(players);
+
+            List<Result> results = new ArrayList<>();
+            for (Match match : matches) {
+                results.add(new Result(match, random.nextBoolean(), random.nextInt(3)));
+            }
+            Collections.shuffle(results, random);
+
+            applyOneByOne(matches, results, rule);
+        }
+    }
+
+    /**
+     * 결과를 하나씩 반영하면서 매번 전체 계산과 비교하고, 마지막 순위표를 돌려줌
+     */
+    private List<GroupStandingDto> applyOneByOne(List<Match> matches, List<Result> results, RankingRule rule) {
+        store.build(GROUP_ID, rankingService.toResults(matches), rule, store.stamp());
+
+        List<GroupStandingDto> incremental = store.find(GROUP_ID, rule);
+        for (Result result : results) {
+            result.apply();
+            store.recordResult(result.match);
+
+            incremental = store.find(GROUP_ID, rule);
+            List<GroupStandingDto> full = rankingService.calculateGroupStandings(matches, rule);
+            assertThat(incremental).as("경기 %d 반영 후 (%s)", result.match.getId(), rule)
+                    .isNotNull()
+                    .extracting(GroupStandingsStoreTest::snapshot)
+                    .containsExactlyElementsOf(full.stream().map(GroupStandingsStoreTest::snapshot).toList());
+        }
+        return incremental;
+    }
+
+    private static String snapshot(GroupStandingDto row) {
+        return row.getRank() + "위 " + row.getPlayerId()
+                + " 승점 " + row.getPoints() + " " + row.getWins() + "승 " + row.getLosses() + "패"
+                + " 세트 " + row.getGamesWon() + ":" + row.getGamesLost()
+                + " 동점자 세트 " + row.getTieBreakerGamesWon() + ":" + row.getTieBreakerGamesLost()
+                + " [" + row.getRemarks() + "]";
+    }
+
+    private List<User> players(int count) {
+        List<User> players = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            User user = User.builder().nickname("player" + id).build();
+            ReflectionTestUtils.setField(user, "id", id);
+            players.add(user);
+        }
+        return players;
+    }
+
+    // 모든 선수가 한 번씩 만나는 대기 중 경기
+    private List<Match> roundRobin(List<User> players) {
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < players.size(); i++) {
+            for (int j = i + 1; j < players.size(); j++) {
+                Match match = Match.builder()
+                        .leagueGroup(group)
+                        .player1(players.get(i))
+                        .player2(players.get(j))
+                        .status(Match.MatchStatus.PENDING)
+                        .build();
+                match.setId(nextMatchId++);
+                matches.add(match);
+            }
+        }
+        return matches;
+    }
+
+    // winnerId 선수가 loserId 선수를 3:loserScore로 이긴 결과
+    private static Result win(List<Match> matches, List<User> players, long winnerId, long loserId, int loserScore) {
+        for (Match match : matches) {
+            Long player1 = match.getPlayer1().getId();
+            Long player2 = match.getPlayer2().getId();
+            if (player1 == winnerId && player2 == loserId) {
+                return new Result(match, true, loserScore);
+            }
+            if (player1 == loserId && player2 == winnerId) {
+                return new Result(match, false, loserScore);
+            }
+        }
+        throw new IllegalArgumentException("경기가 없습니다: " + winnerId + " vs " + loserId + " (" + players.size() + "명)");
+    }
+
+    private static class Result {
+        private final Match match;
+        private final boolean player1Won;
+        private final int loserScore;
+
+        Result(Match match, boolean player1Won, int loserScore) {
+            this.match = match;
+            this.player1Won = player1Won;
+            this.loserScore = loserScore;
+        }
+
+        void apply() {
+            match.setPlayer1Score(player1Won ? 3 : loserScore);
+            match.setPlayer2Score(player1Won ? loserScore : 3);
+            match.setWinner(player1Won ? match.getPlayer1() : match.getPlayer2());
+            match.setStatus(Match.MatchStatus.COMPLETED);
+        }
+    }
+}
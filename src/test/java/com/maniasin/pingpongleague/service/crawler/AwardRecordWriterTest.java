@@ -0,0 +1,175 @@
+package com.maniasin.pingpongleague.service.crawler;
+
+import com.maniasin.pingpongleague.domain.AwardRecord;
+import com.maniasin.pingpongleague.domain.AwardRecordChange;
+import com.maniasin.pingpongleague.domain.Player;
+import com.maniasin.pingpongleague.domain.Tournament;
+import com.maniasin.pingpongleague.dto.CrawledRecordDto;
+import com.maniasin.pingpongleague.repository.AwardRecordChangeRepository;
+import com.maniasin.pingpongleague.repository.AwardRecordRepository;
+import com.maniasin.pingpongleague.repository.TournamentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 크롤링 결과와 기존 기록의 차이로 변경 이력(ADDED/REMOVED)과 missingSince를 정하는 로직 검증
+ * - 사이트 전체를 확인한 크롤링(complete)에서만 사라진 기록을 표시
+ * - 저장소는 mock으로 대체 (Spring 컨텍스트 없음)
+ */
+class AwardRecordWriterTest {
+
+    private static final String SITE = "에어핑";
+
+    private TournamentRepository tournamentRepository;
+    private AwardRecordRepository awardRecordRepository;
+    private AwardRecordChangeRepository awardRecordChangeRepository;
+    private AwardRecordWriter writer;
+
+    private Player player;
+    private Tournament springOpen;
+    private Tournament summerOpen;
+    private AwardRecord springWin;
+    private AwardRecord summerRunnerUp;
+
+    @BeforeEach
+    void setUp() {
+        tournamentRepository = mock(TournamentRepository.class);
+        awardRecordRepository = mock(AwardRecordRepository.class);
+        awardRecordChangeRepository = mock(AwardRecordChangeRepository.class);
+        writer = new AwardRecordWriter(tournamentRepository, awardRecordRepository, awardRecordChangeRepository);
+
+        player = Player.builder().name("홍길동").build();
+        ReflectionTestUtils.setField(player, "id", 1L);
+        springOpen = tournament(10L, "봄 오픈", LocalDate.of(2025, 4, 5));
+        summerOpen = tournament(11L, "여름 오픈", LocalDate.of(2025, 7, 12));
+        springWin = record(springOpen, "우승", SITE);
+        summerRunnerUp = record(summerOpen, "준우승", SITE);
+
+        when(tournamentRepository.findByNameIn(anyCollection())).thenReturn(List.of(springOpen, summerOpen));
+        when(awardRecordRepository.findByPlayerId(1L)).thenReturn(List.of(springWin, summerRunnerUp));
+    }
+
+    @Test
+    void completeCrawlMarksVanishedRecordAsRemoved() {
+        writer.write(player, SITE, List.of(crawled(springOpen, "우승")), true);
+
+        assertThat(springWin.getMissingSince()).isNull();
+        assertThat(summerRunnerUp.getMissingSince()).isNotNull();
+        assertThat(savedChanges()).extracting(AwardRecordChange::getChangeType, AwardRecordChange::getTournamentName)
+                .containsExactly(tuple(AwardRecordChange.ChangeType.REMOVED, "여름 오픈"));
+        verify(awardRecordRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    void incompleteCrawlDoesNotMarkMissingRecords() {
+        writer.write(player, SITE, List.of(crawled(springOpen, "우승")), false);
+
+        assertThat(summerRunnerUp.getMissingSince()).isNull();
+        assertThat(savedChanges()).isEmpty();
+    }
+
+    @Test
+    void emptyParseResultChangesNothing() {
+        int saved = writer.write(player, SITE, List.of(), true);
+
+        assertThat(saved).isZero();
+        assertThat(springWin.getMissingSince()).isNull();
+        assertThat(summerRunnerUp.getMissingSince()).isNull();
+        verifyNoInteractions(awardRecordChangeRepository);
+    }
+
+    @Test
+    void reappearingRecordClearsMissingSinceAndIsReportedAsAdded() {
+        summerRunnerUp.setMissingSince(LocalDateTime.now().minusDays(1));
+
+        writer.write(player, SITE, List.of(crawled(springOpen, "우승"), crawled(summerOpen, "준우승")), true);
+
+        assertThat(summerRunnerUp.getMissingSince()).isNull();
+        assertThat(savedChanges()).extracting(AwardRecordChange::getChangeType, AwardRecordChange::getTournamentName)
+                .containsExactly(tuple(AwardRecordChange.ChangeType.ADDED, "여름 오픈"));
+    }
+
+    @Test
+    void alreadyMissingRecordIsReportedOnlyOnce() {
+        LocalDateTime missingSince = LocalDateTime.now().minusDays(1);
+        summerRunnerUp.setMissingSince(missingSince);
+
+        writer.write(player, SITE, List.of(crawled(springOpen, "우승")), true);
+
+        assertThat(summerRunnerUp.getMissingSince()).isEqualTo(missingSince);
+        assertThat(savedChanges()).isEmpty();
+    }
+
+    @Test
+    void recordsFromOtherSitesAreNotMarked() {
+        AwardRecord otherSite = record(summerOpen, "3위", "핑퐁킹");
+        when(awardRecordRepository.findByPlayerId(1L)).thenReturn(List.of(springWin, summerRunnerUp, otherSite));
+
+        writer.write(player, SITE, List.of(crawled(springOpen, "우승")), true);
+
+        assertThat(otherSite.getMissingSince()).isNull();
+        assertThat(savedChanges()).extracting(AwardRecordChange::getPlacing).containsExactly("준우승");
+    }
+
+    @Test
+    void vanishedRecordsAreDeletedOnlyWhenEnabled() {
+        ReflectionTestUtils.setField(writer, "deleteMissing", true);
+
+        writer.write(player, SITE, List.of(crawled(springOpen, "우승")), true);
+
+        verify(awardRecordRepository).deleteAll(List.of(summerRunnerUp));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AwardRecordChange> savedChanges() {
+        ArgumentCaptor<Iterable<AwardRecordChange>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(awardRecordChangeRepository).saveAll(captor.capture());
+        List<AwardRecordChange> changes = new ArrayList<>();
+        captor.getValue().forEach(changes::add);
+        return changes;
+    }
+
+    private static Tournament tournament(long id, String name, LocalDate date) {
+        Tournament tournament = Tournament.builder().name(name).tournamentDate(date).organizer(SITE).build();
+        ReflectionTestUtils.setField(tournament, "id", id);
+        return tournament;
+    }
+
+    private AwardRecord record(Tournament tournament, String placing, String sourceSite) {
+        return AwardRecord.builder()
+                .player(player)
+                .tournament(tournament)
+                .division("남자 1부")
+                .detail("")
+                .placing(placing)
+                .sourceSite(sourceSite)
+                .build();
+    }
+
+    private static CrawledRecordDto crawled(Tournament tournament, String placing) {
+        return CrawledRecordDto.builder()
+                .tournamentName(tournament.getName())
+                .tournamentDate(tournament.getTournamentDate())
+                .division("남자 1부")
+                .detail("")
+                .placing(placing)
+                .build();
+    }
+}